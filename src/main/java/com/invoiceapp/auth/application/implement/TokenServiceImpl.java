@@ -5,10 +5,28 @@ import com.invoiceapp.auth.infrastructure.security.JwtService;
 import com.invoiceapp.common.constants.AppConstants;
 import com.invoiceapp.common.exception.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -17,17 +35,35 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class TokenServiceImpl implements TokenService {
 
+    private static final int REPLACE_OWNED_TOKEN_ATTEMPTS = 5;
+
+    /**
+     * KEYS[1] owner, KEYS[2] new token, KEYS[3] (optional) the token the owner pointed to when the caller
+     * read it, which ARGV[3] repeats so the script only deletes it if the owner still points there.
+     */
+    private static final RedisScript<Long> REPLACE_OWNED_TOKEN_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1]) or ''
+            if current ~= ARGV[3] then
+                return 0
+            end
+            if KEYS[3] then
+                redis.call('DEL', KEYS[3])
+            end
+            redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[2])
+            redis.call('SET', KEYS[1], KEYS[2], 'EX', ARGV[2])
+            return 1
+            """, Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final JwtService jwtService;
 
     @Override
     public String generateEmailVerificationToken(String email) {
-        deleteExistingTokensForEmail(AppConstants.REDIS_EMAIL_VERIFY_PREFIX, email);
-
         String token = jwtService.generateVerificationToken(email);
         String key = AppConstants.REDIS_EMAIL_VERIFY_PREFIX + token;
 
-        redisTemplate.opsForValue().set(key, email, AppConstants.EMAIL_TOKEN_EXPIRY_HOURS, TimeUnit.HOURS);
+        replaceOwnedToken(AppConstants.REDIS_EMAIL_VERIFY_OWNER_PREFIX + email, key, email,
+                TimeUnit.HOURS.toSeconds(AppConstants.EMAIL_TOKEN_EXPIRY_HOURS));
 
         return token;
     }
@@ -54,8 +90,23 @@ public class TokenServiceImpl implements TokenService {
     @Override
     public void storeRefreshToken(String token, UUID userId, String deviceInfo, long expirationDays) {
         String key = AppConstants.REDIS_REFRESH_TOKEN_PREFIX + token;
-        RefreshTokenData data = new RefreshTokenData(userId, deviceInfo, System.currentTimeMillis());
-        redisTemplate.opsForValue().set(key, data, expirationDays, TimeUnit.DAYS);
+        String sessionsKey = buildRefreshSessionsKey(userId);
+        long createdAt = System.currentTimeMillis();
+        long expiresAt = createdAt + TimeUnit.DAYS.toMillis(expirationDays);
+        RefreshTokenData data = new RefreshTokenData(userId, deviceInfo, createdAt);
+
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.multi();
+                ops.opsForValue().set(key, data, expirationDays, TimeUnit.DAYS);
+                ops.opsForHash().put(sessionsKey, token, buildSessionValue(createdAt, expiresAt, deviceInfo));
+                ops.expire(sessionsKey, expirationDays, TimeUnit.DAYS);
+                return ops.exec();
+            }
+        });
     }
 
     @Override
@@ -67,22 +118,129 @@ public class TokenServiceImpl implements TokenService {
     @Override
     public void revokeRefreshToken(String token) {
         String key = AppConstants.REDIS_REFRESH_TOKEN_PREFIX + token;
-        redisTemplate.delete(key);
+        UUID userId = extractRefreshTokenUserId(token);
+
+        if (userId == null) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        String sessionsKey = buildRefreshSessionsKey(userId);
+
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.multi();
+                ops.delete(key);
+                ops.opsForHash().delete(sessionsKey, token);
+                return ops.exec();
+            }
+        });
     }
 
     @Override
     public void revokeAllUserTokens(UUID userId) {
-        String pattern = AppConstants.REDIS_REFRESH_TOKEN_PREFIX + "*";
-        Set<String> keys = redisTemplate.keys(pattern);
-
-        if (keys != null) {
-            for (String key : keys) {
-                RefreshTokenData data = (RefreshTokenData) redisTemplate.opsForValue().get(key);
-                if (data != null && data.userId().equals(userId)) {
-                    redisTemplate.delete(key);
+        String sessionsKey = buildRefreshSessionsKey(userId);
+        Set<Object> tokens = redisTemplate.opsForHash().keys(sessionsKey);
+
+        List<String> keys = new ArrayList<>(tokens.size() + 1);
+        for (Object token : tokens) {
+            keys.add(AppConstants.REDIS_REFRESH_TOKEN_PREFIX + token);
+        }
+        keys.add(sessionsKey);
+
+        redisTemplate.delete(keys);
+    }
+
+    /**
+     * Adds refresh tokens stored before the per-user session index existed to that index, so
+     * {@link #revokeAllUserTokens(UUID)} and the session list see them. Idempotent; tokens already
+     * indexed are left untouched.
+     */
+    @Override
+    public int indexLegacyRefreshTokens() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(AppConstants.REDIS_REFRESH_TOKEN_PREFIX + "*")
+                .count(500)
+                .build();
+        int indexed = 0;
+
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                String token = key.substring(AppConstants.REDIS_REFRESH_TOKEN_PREFIX.length());
+                if (indexLegacyRefreshToken(key, token)) {
+                    indexed++;
                 }
             }
         }
+
+        return indexed;
+    }
+
+    private boolean indexLegacyRefreshToken(String key, String token) {
+        Object value = redisTemplate.opsForValue().get(key);
+        Long ttlMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        if (value == null || ttlMillis == null || ttlMillis <= 0) {
+            return false;
+        }
+
+        UUID userId;
+        String deviceInfo;
+        Long createdAt;
+        if (value instanceof RefreshTokenData data) {
+            userId = data.userId();
+            deviceInfo = data.deviceInfo();
+            createdAt = data.createdAt();
+        } else if (value instanceof Map<?, ?> data && data.get("userId") != null) {
+            userId = UUID.fromString(data.get("userId").toString());
+            deviceInfo = data.get("deviceInfo") != null ? data.get("deviceInfo").toString() : null;
+            createdAt = data.get("createdAt") instanceof Number number ? number.longValue() : null;
+        } else {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        String sessionsKey = buildRefreshSessionsKey(userId);
+        String sessionValue = buildSessionValue(createdAt != null ? createdAt : now, now + ttlMillis, deviceInfo);
+
+        if (!Boolean.TRUE.equals(redisTemplate.opsForHash().putIfAbsent(sessionsKey, token, sessionValue))) {
+            return false;
+        }
+
+        Long sessionsTtl = redisTemplate.getExpire(sessionsKey, TimeUnit.MILLISECONDS);
+        if (sessionsTtl == null || sessionsTtl < ttlMillis) {
+            redisTemplate.expire(sessionsKey, ttlMillis, TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
+    @Override
+    public List<RefreshSession> getActiveSessions(UUID userId) {
+        String sessionsKey = buildRefreshSessionsKey(userId);
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(sessionsKey);
+
+        long now = System.currentTimeMillis();
+        List<RefreshSession> sessions = new ArrayList<>();
+        List<Object> expiredTokens = new ArrayList<>();
+
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            RefreshSession session = parseSessionValue((String) entry.getValue());
+            if (session == null || session.expiresAt().toEpochMilli() <= now) {
+                expiredTokens.add(entry.getKey());
+            } else {
+                sessions.add(session);
+            }
+        }
+
+        if (!expiredTokens.isEmpty()) {
+            redisTemplate.opsForHash().delete(sessionsKey, expiredTokens.toArray());
+        }
+
+        sessions.sort(Comparator.comparing(RefreshSession::createdAt).reversed());
+        return sessions;
     }
 
     @Override
@@ -96,6 +254,37 @@ public class TokenServiceImpl implements TokenService {
         return token;
     }
 
+    @Override
+    public Map<UUID, Map<String, String>> generatePublicActionTokens(Collection<UUID> invoiceIds, Collection<String> actions) {
+        Map<UUID, Map<String, String>> tokens = new LinkedHashMap<>();
+        Map<String, String> keyValues = new HashMap<>();
+
+        for (UUID invoiceId : invoiceIds) {
+            Map<String, String> invoiceTokens = new LinkedHashMap<>();
+            for (String action : actions) {
+                String token = jwtService.generatePublicActionToken(invoiceId, action);
+                invoiceTokens.put(action, token);
+                keyValues.put(buildPublicActionKey(action, token), invoiceId.toString());
+            }
+            tokens.put(invoiceId, invoiceTokens);
+        }
+
+        if (!keyValues.isEmpty()) {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    keyValues.forEach((key, value) -> ops.opsForValue().set(key, value,
+                            AppConstants.PUBLIC_ACTION_TOKEN_EXPIRY_DAYS, TimeUnit.DAYS));
+                    return null;
+                }
+            });
+        }
+
+        return tokens;
+    }
+
     @Override
     public UUID verifyPublicActionToken(String token, String action) {
         String key = buildPublicActionKey(action, token);
@@ -123,13 +312,11 @@ public class TokenServiceImpl implements TokenService {
 
     @Override
     public String generatePasswordResetToken(String email) {
-        deleteExistingTokensForEmail(AppConstants.REDIS_PASSWORD_RESET_PREFIX, email);
-
         String token = jwtService.generatePasswordResetToken(email);
         String key = AppConstants.REDIS_PASSWORD_RESET_PREFIX + token;
 
-        redisTemplate.opsForValue().set(key, email,
-                AppConstants.PASSWORD_RESET_TOKEN_EXPIRY_HOURS, TimeUnit.HOURS);
+        replaceOwnedToken(AppConstants.REDIS_PASSWORD_RESET_OWNER_PREFIX + email, key, email,
+                TimeUnit.HOURS.toSeconds(AppConstants.PASSWORD_RESET_TOKEN_EXPIRY_HOURS));
 
         return token;
     }
@@ -155,14 +342,12 @@ public class TokenServiceImpl implements TokenService {
 
     @Override
     public String generateEmailChangeToken(String oldEmail, String newEmail, UUID userId) {
-        deleteExistingTokensForUser(AppConstants.REDIS_EMAIL_CHANGE_PREFIX, userId);
-
         String token = jwtService.generateEmailChangeToken(oldEmail, newEmail, userId);
         String key = AppConstants.REDIS_EMAIL_CHANGE_PREFIX + token;
         String value = buildEmailChangeValue(oldEmail, newEmail, userId);
 
-        redisTemplate.opsForValue().set(key, value,
-                AppConstants.EMAIL_TOKEN_EXPIRY_HOURS, TimeUnit.HOURS);
+        replaceOwnedToken(AppConstants.REDIS_EMAIL_CHANGE_OWNER_PREFIX + userId, key, value,
+                TimeUnit.HOURS.toSeconds(AppConstants.EMAIL_TOKEN_EXPIRY_HOURS));
 
         return token;
     }
@@ -187,32 +372,58 @@ public class TokenServiceImpl implements TokenService {
     }
 
     // Helper methods
-    private void deleteExistingTokensForEmail(String prefix, String email) {
-        String pattern = prefix + "*";
-        Set<String> keys = redisTemplate.keys(pattern);
-
-        if (keys != null) {
-            for (String key : keys) {
-                String storedEmail = (String) redisTemplate.opsForValue().get(key);
-                if (email.equals(storedEmail)) {
-                    redisTemplate.delete(key);
-                }
+    private void replaceOwnedToken(String ownerKey, String tokenKey, Object value, long ttlSeconds) {
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        byte[] serializedValue = valueSerializer.serialize(value);
+        byte[] ttl = RedisSerializer.string().serialize(String.valueOf(ttlSeconds));
+
+        for (int attempt = 0; attempt < REPLACE_OWNED_TOKEN_ATTEMPTS; attempt++) {
+            String previousKey = redisTemplate.execute((RedisCallback<String>) connection -> {
+                byte[] previous = connection.stringCommands().get(RedisSerializer.string().serialize(ownerKey));
+                return previous != null ? RedisSerializer.string().deserialize(previous) : null;
+            });
+
+            List<String> keys = previousKey != null
+                    ? List.of(ownerKey, tokenKey, previousKey)
+                    : List.of(ownerKey, tokenKey);
+            byte[] expectedPrevious = RedisSerializer.string().serialize(previousKey != null ? previousKey : "");
+
+            Long replaced = redisTemplate.execute(REPLACE_OWNED_TOKEN_SCRIPT, RedisSerializer.byteArray(),
+                    new GenericToStringSerializer<>(Long.class), keys, serializedValue, ttl, expectedPrevious);
+            if (replaced != null && replaced == 1L) {
+                return;
             }
         }
+
+        throw new IllegalStateException("Concurrent token requests for " + ownerKey + ", please retry");
     }
 
-    private void deleteExistingTokensForUser(String prefix, UUID userId) {
-        String pattern = prefix + "*";
-        Set<String> keys = redisTemplate.keys(pattern);
+    private UUID extractRefreshTokenUserId(String token) {
+        try {
+            return jwtService.extractUserId(jwtService.validateRefreshToken(token));
+        } catch (Exception e) {
+            return null;
+        }
+    }
 
-        if (keys != null) {
-            for (String key : keys) {
-                String storedValue = (String) redisTemplate.opsForValue().get(key);
-                if (storedValue != null && storedValue.contains(userId.toString())) {
-                    redisTemplate.delete(key);
-                }
-            }
+    private String buildRefreshSessionsKey(UUID userId) {
+        return AppConstants.REDIS_REFRESH_SESSIONS_PREFIX + userId;
+    }
+
+    private String buildSessionValue(long createdAt, long expiresAt, String deviceInfo) {
+        return createdAt + "|" + expiresAt + "|" + (deviceInfo != null ? deviceInfo : "");
+    }
+
+    private RefreshSession parseSessionValue(String value) {
+        String[] parts = value.split("\\|", 3);
+        if (parts.length == 3) {
+            return new RefreshSession(
+                    parts[2].isEmpty() ? null : parts[2],
+                    Instant.ofEpochMilli(Long.parseLong(parts[0])),
+                    Instant.ofEpochMilli(Long.parseLong(parts[1])));
         }
+        return null;
     }
 
     private String buildPublicActionKey(String action, String token) {
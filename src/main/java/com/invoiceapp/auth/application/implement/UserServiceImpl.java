@@ -10,6 +10,7 @@ import com.invoiceapp.auth.presentation.dto.request.ChangeEmailRequest;
 import com.invoiceapp.auth.presentation.dto.request.ChangePasswordRequest;
 import com.invoiceapp.auth.presentation.dto.request.UserProfileRequest;
 import com.invoiceapp.auth.presentation.dto.response.AuthResponse;
+import com.invoiceapp.auth.presentation.dto.response.SessionResponse;
 import com.invoiceapp.common.exception.BadRequestException;
 import com.invoiceapp.common.exception.ResourceConflictException;
 import com.invoiceapp.common.exception.ResourceNotFoundException;
@@ -19,10 +20,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.authentication.BadCredentialsException;
 
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -141,5 +144,15 @@ public class UserServiceImpl implements UserService {
         log.info("Email changed successfully from {} to {}", oldEmail, data.newEmail());
     }
 
-
-}
\ No newline at end of file
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SessionResponse> getActiveSessions(UUID userId) {
+        return tokenService.getActiveSessions(userId).stream()
+                .map(session -> SessionResponse.builder()
+                        .deviceInfo(session.deviceInfo())
+                        .createdAt(session.createdAt())
+                        .expiresAt(session.expiresAt())
+                        .build())
+                .toList();
+    }
+}
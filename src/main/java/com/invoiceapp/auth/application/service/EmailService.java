@@ -1,9 +1,12 @@
 package com.invoiceapp.auth.application.service;
 
+import java.util.List;
+
 public interface EmailService {
     void sendVerificationEmail(String to, String token);
     void sendPasswordResetEmail(String to, String token);
     void sendInvoiceEmailWithActions(String to, String clientName, String invoiceNumber, String totalAmount, String dueDate, String invoiceViewLink, String paymentLink, String cancelLink);
+    void sendInvoiceEmailsWithActions(List<InvoiceActionEmail> emails);
     void sendInvoiceCancellationNotification(String userEmail, String clientName, String invoiceNumber);
     void sendPaymentConfirmationNotification(String userEmail, String clientName, String invoiceNumber);
     void sendPaymentConfirmationEmail(String to, String clientName, String invoiceNumber,
@@ -12,5 +15,8 @@ public interface EmailService {
     void sendEmailChangeVerification(String to, String token);
     void sendEmailChangeNotification(String oldEmail, String newEmail);
 
+    record InvoiceActionEmail(String to, String clientName, String invoiceNumber, String totalAmount,
+                              String dueDate, String invoiceViewLink, String paymentLink, String cancelLink) {}
+
 
 }
\ No newline at end of file
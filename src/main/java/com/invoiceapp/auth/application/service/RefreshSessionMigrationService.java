@@ -0,0 +1,60 @@
+package com.invoiceapp.auth.application.service;
+
+import com.invoiceapp.common.constants.AppConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * Indexes refresh tokens issued before per-user session tracking into the session sets. The scan
+ * touches every refresh token, so it runs once: the first instance to start claims a Redis marker key
+ * and later startups skip it. Delete the marker to run it again, for example after the last instance
+ * of the old version has been stopped.
+ */
+@Service
+@ConditionalOnProperty(name = "app.auth.refresh-session-migration.enabled", havingValue = "true",
+        matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshSessionMigrationService {
+
+    private final TokenService tokenService;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexLegacyRefreshTokens() {
+        String marker = AppConstants.REDIS_REFRESH_SESSIONS_MIGRATED;
+
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(marker, Instant.now().toString()))) {
+                log.debug("Legacy refresh tokens already indexed, skipping");
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check the refresh session migration marker: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            int indexed = tokenService.indexLegacyRefreshTokens();
+            log.info("Indexed {} legacy refresh tokens into user session sets", indexed);
+        } catch (Exception e) {
+            log.warn("Failed to index legacy refresh tokens, will retry on next startup: {}", e.getMessage());
+            releaseMarker(marker);
+        }
+    }
+
+    private void releaseMarker(String marker) {
+        try {
+            redisTemplate.delete(marker);
+        } catch (Exception e) {
+            log.warn("Failed to release the refresh session migration marker {}: {}", marker, e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.invoiceapp.auth.application.service;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -10,7 +13,10 @@ public interface TokenService {
     boolean isRefreshTokenValid(String token);
     void revokeRefreshToken(String token);
     void revokeAllUserTokens(UUID userId);
+    int indexLegacyRefreshTokens();
+    List<RefreshSession> getActiveSessions(UUID userId);
     String generatePublicActionToken(UUID invoiceId, String action);
+    Map<UUID, Map<String, String>> generatePublicActionTokens(Collection<UUID> invoiceIds, Collection<String> actions);
     UUID verifyPublicActionToken(String token, String action);
     String generatePasswordResetToken(String email);
     String verifyPasswordResetToken(String token);
@@ -20,6 +26,8 @@ public interface TokenService {
 
     record EmailChangeData(String oldEmail, String newEmail, UUID userId) {}
 
+    record RefreshSession(String deviceInfo, Instant createdAt, Instant expiresAt) {}
+
 
 
 
@@ -4,6 +4,9 @@ import com.invoiceapp.auth.presentation.dto.request.ChangePasswordRequest;
 import com.invoiceapp.auth.presentation.dto.request.UserProfileRequest;
 import com.invoiceapp.auth.presentation.dto.response.AuthResponse;
 import com.invoiceapp.auth.presentation.dto.request.ChangeEmailRequest;
+import com.invoiceapp.auth.presentation.dto.response.SessionResponse;
+
+import java.util.List;
 import java.util.UUID;
 
 public interface UserService {
@@ -11,6 +14,7 @@ public interface UserService {
     void changePassword(ChangePasswordRequest request, UUID userId);
     void changeEmail(UUID userId, ChangeEmailRequest request);
     void verifyEmailChange(String token);
+    List<SessionResponse> getActiveSessions(UUID userId);
 
 
 
@@ -1,5 +1,6 @@
 package com.invoiceapp.auth.domain.entity;
 
+import com.invoiceapp.common.persistence.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,7 +25,7 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(unique = true, nullable = false)
@@ -9,6 +9,7 @@ import com.invoiceapp.common.service.FileUploadService;
 import com.invoiceapp.common.exception.ResourceNotFoundException;
 import com.invoiceapp.auth.presentation.dto.request.UserProfileRequest;
 import com.invoiceapp.auth.presentation.dto.response.AuthResponse;
+import com.invoiceapp.auth.presentation.dto.response.SessionResponse;
 import com.invoiceapp.common.dto.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -104,6 +106,13 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success("Email changed successfully"));
     }
 
+    @GetMapping("/sessions")
+    public ResponseEntity<ApiResponse<List<SessionResponse>>> getActiveSessions(
+            @RequestAttribute("userId") UUID userId) {
+        List<SessionResponse> sessions = userService.getActiveSessions(userId);
+        return ResponseEntity.ok(ApiResponse.success("Active sessions retrieved successfully", sessions));
+    }
+
 
 
 
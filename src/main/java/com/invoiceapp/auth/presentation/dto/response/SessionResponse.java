@@ -0,0 +1,18 @@
+package com.invoiceapp.auth.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionResponse {
+    private String deviceInfo;
+    private Instant createdAt;
+    private Instant expiresAt;
+}
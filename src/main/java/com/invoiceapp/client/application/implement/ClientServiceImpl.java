@@ -12,34 +12,43 @@ import com.invoiceapp.common.dto.PageDTO;
 import com.invoiceapp.common.exception.BadRequestException;
 import com.invoiceapp.common.exception.ResourceConflictException;
 import com.invoiceapp.common.exception.ResourceNotFoundException;
+import com.invoiceapp.common.pagination.CursorCodec;
+import com.invoiceapp.common.service.CacheGenerationService;
 import com.invoiceapp.common.specification.BaseSpecification;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.Session;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ClientServiceImpl implements ClientService {
 
+    private static final String CLIENTS_CACHE = "clients";
+    private static final String INVOICES_CACHE = "invoices";
+
     private final ClientRepository clientRepository;
     private final UserRepository userRepository;
     private final ClientMapper clientMapper;
+    private final CacheGenerationService cacheGenerationService;
     private final EntityManager entityManager;
+    private final CursorCodec cursorCodec;
 
     @Override
-    @CacheEvict(value = "clients", allEntries = true)
     public ClientResponse createClient(ClientRequest request, UUID userId) {
         Session session = entityManager.unwrap(Session.class);
         session.enableFilter("deletedClientFilter");
@@ -64,11 +73,11 @@ public class ClientServiceImpl implements ClientService {
                 .build();
 
         client = clientRepository.save(client);
+        cacheGenerationService.bumpGeneration(CLIENTS_CACHE, userId);
         return clientMapper.toResponse(client);
     }
 
     @Override
-    @CacheEvict(value = "clients", allEntries = true)
     public ClientResponse updateClient(UUID id, ClientRequest request, UUID userId) {
         Session session = entityManager.unwrap(Session.class);
         session.enableFilter("deletedClientFilter");
@@ -82,11 +91,12 @@ public class ClientServiceImpl implements ClientService {
         client.setAddress(request.getAddress());
 
         client = clientRepository.save(client);
+        cacheGenerationService.bumpGeneration(CLIENTS_CACHE, userId);
+        cacheGenerationService.bumpGeneration(INVOICES_CACHE, userId);
         return clientMapper.toResponse(client);
     }
 
     @Override
-    @CacheEvict(value = "clients", allEntries = true)
     public void deleteClient(UUID id, UUID userId) {
         Session session = entityManager.unwrap(Session.class);
         session.enableFilter("deletedClientFilter");
@@ -95,6 +105,8 @@ public class ClientServiceImpl implements ClientService {
             throw new ResourceNotFoundException("Client not found");
         }
         clientRepository.deleteById(id);
+        cacheGenerationService.bumpGeneration(CLIENTS_CACHE, userId);
+        cacheGenerationService.bumpGeneration(INVOICES_CACHE, userId);
     }
 
     @Override
@@ -110,9 +122,10 @@ public class ClientServiceImpl implements ClientService {
 
     @Override
     @Cacheable(
-            value = "clients",
-            key = "#userId + ':' + #page + ':' + #size + ':' + #sortBy + ':' + #sortDir + ':' + #search",
-            unless = "#result == null || #result.getContent().isEmpty()"
+            value = CLIENTS_CACHE,
+            key = "#userId + ':' + @cacheGenerationService.currentGeneration('clients', #userId)"
+                    + " + ':' + #page + ':' + #size + ':' + #sortBy + ':' + #sortDir + ':' + #search",
+            sync = true
     )
     @Transactional(readOnly = true)
     public PageDTO<ClientResponse> getAllClients(UUID userId, int page, int size,
@@ -126,10 +139,7 @@ public class ClientServiceImpl implements ClientService {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Specification<Client> spec = Specification.allOf(
-                BaseSpecification.<Client>withUserId(userId, "user"),
-                BaseSpecification.<Client>withSearch(search, "name")
-        );
+        Specification<Client> spec = clientSpecification(userId, search);
 
         Page<Client> clients = clientRepository.findAll(spec, pageable);
         Page<ClientResponse> clientResponsePage = clients.map(clientMapper::toResponse);
@@ -142,4 +152,38 @@ public class ClientServiceImpl implements ClientService {
                 clientResponsePage.getSize()
         );
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<ClientResponse> scrollClients(UUID userId, String cursor, int size,
+                                                 String sortBy, String sortDir, String search,
+                                                 boolean includeTotal) {
+        Session session = entityManager.unwrap(Session.class);
+        session.enableFilter("deletedClientFilter");
+
+        Sort sort = cursorCodec.keysetSort(sortBy, sortDir);
+        KeysetScrollPosition position = cursorCodec.decode(cursor, sort, Client.class);
+        Specification<Client> spec = clientSpecification(userId, search);
+
+        Window<Client> window = clientRepository.findBy(spec,
+                query -> query.sortBy(sort).limit(size).scroll(position));
+
+        List<ClientResponse> content = window.stream()
+                .map(clientMapper::toResponse)
+                .collect(Collectors.toList());
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? cursorCodec.encode(window.positionAt(window.size() - 1), sort)
+                : null;
+
+        return PageDTO.ofWindow(content, size, nextCursor, window.hasNext(),
+                includeTotal ? clientRepository.count(spec) : null);
+    }
+
+    private Specification<Client> clientSpecification(UUID userId, String search) {
+        return Specification.allOf(
+                BaseSpecification.<Client>withUserId(userId, "user"),
+                BaseSpecification.<Client>withSearch(search, "name")
+        );
+    }
 }
\ No newline at end of file
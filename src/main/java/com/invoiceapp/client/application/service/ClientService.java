@@ -13,4 +13,6 @@ public interface ClientService {
     ClientResponse updateClient(UUID clientId, ClientRequest request, UUID userId);
     void deleteClient(UUID clientId, UUID userId);
     ClientResponse getClientById(UUID clientId, UUID userId);
-    PageDTO<ClientResponse> getAllClients(UUID userId, int page, int size, String sortBy, String sortDir, String search);}
\ No newline at end of file
+    PageDTO<ClientResponse> getAllClients(UUID userId, int page, int size, String sortBy, String sortDir, String search);
+    PageDTO<ClientResponse> scrollClients(UUID userId, String cursor, int size, String sortBy, String sortDir,
+                                          String search, boolean includeTotal);}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.invoiceapp.client.domain.entity;
 
 import com.invoiceapp.auth.domain.entity.User;
+import com.invoiceapp.common.persistence.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.FilterDef;
@@ -23,7 +24,7 @@ import java.util.UUID;
 public class Client {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
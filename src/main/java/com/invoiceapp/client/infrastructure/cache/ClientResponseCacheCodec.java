@@ -0,0 +1,49 @@
+package com.invoiceapp.client.infrastructure.cache;
+
+import com.invoiceapp.client.presentation.dto.response.ClientResponse;
+import com.invoiceapp.common.cache.codec.CacheCodec;
+import com.invoiceapp.common.cache.codec.CodecReader;
+import com.invoiceapp.common.cache.codec.CodecWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+public class ClientResponseCacheCodec implements CacheCodec<ClientResponse> {
+
+    @Override
+    public byte tag() {
+        return 0x11;
+    }
+
+    @Override
+    public Class<ClientResponse> type() {
+        return ClientResponse.class;
+    }
+
+    @Override
+    public void write(ClientResponse value, CodecWriter writer) throws IOException {
+        writer.writeUuid(value.getId());
+        writer.writeString(value.getName());
+        writer.writeString(value.getEmail());
+        writer.writeString(value.getPhone());
+        writer.writeString(value.getAddress());
+        writer.writeString(value.getPaymentPreferences());
+        writer.writeLocalDateTime(value.getCreatedAt());
+        writer.writeLocalDateTime(value.getUpdatedAt());
+    }
+
+    @Override
+    public ClientResponse read(CodecReader reader) throws IOException {
+        return ClientResponse.builder()
+                .id(reader.readUuid())
+                .name(reader.readString())
+                .email(reader.readString())
+                .phone(reader.readString())
+                .address(reader.readString())
+                .paymentPreferences(reader.readString())
+                .createdAt(reader.readLocalDateTime())
+                .updatedAt(reader.readLocalDateTime())
+                .build();
+    }
+}
@@ -25,5 +25,7 @@ public interface ClientRepository extends JpaRepository<Client, UUID>, JpaSpecif
 
     boolean existsByEmailAndUserId(String email, UUID userId);
 
+    long countByUserIdAndDeletedAtIsNull(UUID userId);
+
 
 }
\ No newline at end of file
@@ -79,4 +79,20 @@ public class ClientController {
         return ResponseEntity.ok(ApiResponse.success("Clients retrieved successfully", clientsPage));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<PageDTO<ClientResponse>>> scrollClients(
+            @RequestAttribute("userId") UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        PageDTO<ClientResponse> clients = clientService.scrollClients(
+                userId, cursor, size, sortBy, sortDir, search, includeTotal);
+
+        return ResponseEntity.ok(ApiResponse.success("Clients retrieved successfully", clients));
+    }
+
 }
\ No newline at end of file
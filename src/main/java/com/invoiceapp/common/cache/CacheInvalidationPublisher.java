@@ -0,0 +1,69 @@
+package com.invoiceapp.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Slf4j
+public class CacheInvalidationPublisher implements MessageListener {
+
+    private static final String CLEAR_MARKER = "*";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+    private Function<String, TwoTierCache> cacheLookup = name -> null;
+
+    public CacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate, String channel) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channel = channel;
+    }
+
+    void bind(Function<String, TwoTierCache> cacheLookup) {
+        this.cacheLookup = cacheLookup;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    void publishEvict(String cacheName, Object key) {
+        publish(cacheName + "|" + key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(cacheName + "|" + CLEAR_MARKER);
+    }
+
+    private void publish(String payload) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, instanceId + "|" + payload);
+        } catch (Exception e) {
+            log.warn("Failed to publish cache invalidation '{}': {}", payload, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierCache cache = cacheLookup.apply(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (CLEAR_MARKER.equals(parts[2])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+}
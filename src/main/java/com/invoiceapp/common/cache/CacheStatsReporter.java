@@ -0,0 +1,26 @@
+package com.invoiceapp.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheStatsReporter {
+
+    private final TwoTierCacheManager cacheManager;
+
+    @Scheduled(fixedDelayString = "${app.cache.stats-log-interval:PT5M}")
+    public void reportStats() {
+        cacheManager.getStats().forEach((name, stats) ->
+                log.info("Cache '{}': L1 {} hits / {} misses ({}%), L2 {} hits / {} misses ({}%), "
+                                + "{} coalesced loads, {} early refreshes, L1 size {}",
+                        name,
+                        stats.localHits(), stats.localMisses(), Math.round(stats.localHitRatio() * 100),
+                        stats.remoteHits(), stats.remoteMisses(), Math.round(stats.remoteHitRatio() * 100),
+                        stats.coalescedLoads(), stats.earlyRefreshes(),
+                        stats.localSize()));
+    }
+}
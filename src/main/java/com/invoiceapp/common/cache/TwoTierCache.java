@@ -0,0 +1,257 @@
+package com.invoiceapp.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final long remoteTtlNanos;
+    private final double earlyRefreshBeta;
+    private final long loadTimeoutNanos;
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+    private final com.github.benmanes.caffeine.cache.Cache<Object, LoadInfo> loadInfo;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder earlyRefreshes = new LongAdder();
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                        Cache remoteCache,
+                        CacheInvalidationPublisher invalidationPublisher,
+                        Duration remoteTtl,
+                        double earlyRefreshBeta,
+                        Duration loadTimeout) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.remoteTtlNanos = remoteTtl.toNanos();
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.loadTimeoutNanos = loadTimeout.toNanos();
+        this.loadInfo = Caffeine.newBuilder()
+                .expireAfterWrite(remoteTtl)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object localValue = localCache.getIfPresent(key);
+        if (localValue != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(localValue);
+        }
+        localMisses.increment();
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null || remoteValue.get() == null) {
+            remoteMisses.increment();
+            return null;
+        }
+
+        remoteHits.increment();
+        localCache.put(key, remoteValue.get());
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Concurrent misses for the same key share a single load on this instance; callers waiting on it give
+     * up after the load timeout instead of blocking behind a stuck loader. A hit may also trigger
+     * an early reload (XFetch): the closer the entry is to its remote expiry and the slower it was to
+     * compute, the more likely one caller refreshes it while the others keep reading the cached value.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return (T) loadOnce(key, valueLoader);
+        }
+
+        if (!shouldRefreshEarly(key)) {
+            return (T) wrapper.get();
+        }
+
+        CompletableFuture<Object> refresh = new CompletableFuture<>();
+        if (inFlightLoads.putIfAbsent(key, refresh) != null) {
+            return (T) wrapper.get();
+        }
+
+        earlyRefreshes.increment();
+        try {
+            return (T) load(key, valueLoader, refresh);
+        } catch (ValueRetrievalException e) {
+            log.warn("Early refresh of cache '{}' key '{}' failed, serving cached value: {}",
+                    name, key, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return (T) wrapper.get();
+        }
+    }
+
+    private Object loadOnce(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlightLoads.putIfAbsent(key, load);
+        if (existing != null) {
+            coalescedLoads.increment();
+            try {
+                return existing.get(loadTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            } catch (TimeoutException e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+
+        Object loadedMeanwhile = localCache.getIfPresent(key);
+        if (loadedMeanwhile != null) {
+            inFlightLoads.remove(key, load);
+            load.complete(loadedMeanwhile);
+            return loadedMeanwhile;
+        }
+
+        return load(key, valueLoader, load);
+    }
+
+    private Object load(Object key, Callable<?> valueLoader, CompletableFuture<Object> load) {
+        long startedAt = System.nanoTime();
+        try {
+            Object value = valueLoader.call();
+            put(key, value);
+
+            long loadedAt = System.nanoTime();
+            loadInfo.put(key, new LoadInfo(loadedAt, loadedAt - startedAt));
+            load.complete(value);
+            return value;
+        } catch (Exception e) {
+            load.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlightLoads.remove(key, load);
+        }
+    }
+
+    private boolean shouldRefreshEarly(Object key) {
+        if (earlyRefreshBeta <= 0) {
+            return false;
+        }
+
+        LoadInfo info = loadInfo.getIfPresent(key);
+        if (info == null) {
+            return false;
+        }
+
+        double headStart = info.computeNanos() * earlyRefreshBeta
+                * -Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.nanoTime() + headStart >= info.loadedAtNanos() + remoteTtlNanos;
+    }
+
+    /**
+     * Puts are not broadcast: cached keys carry the owner's cache generation, so a write lands under a new
+     * key rather than replacing one other instances hold. Only explicit evict and clear reach them.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        remoteCache.put(key, value);
+        localCache.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(key);
+        loadInfo.invalidate(key);
+        invalidationPublisher.publishEvict(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        loadInfo.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    void evictLocal(Object key) {
+        localCache.invalidate(key);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    public Stats stats() {
+        return new Stats(
+                localHits.sum(), localMisses.sum(),
+                remoteHits.sum(), remoteMisses.sum(),
+                coalescedLoads.sum(), earlyRefreshes.sum(),
+                localCache.estimatedSize()
+        );
+    }
+
+    private record LoadInfo(long loadedAtNanos, long computeNanos) {
+    }
+
+    public record Stats(long localHits, long localMisses, long remoteHits, long remoteMisses,
+                        long coalescedLoads, long earlyRefreshes, long localSize) {
+
+        public double localHitRatio() {
+            long lookups = localHits + localMisses;
+            return lookups == 0 ? 0 : (double) localHits / lookups;
+        }
+
+        public double remoteHitRatio() {
+            long lookups = remoteHits + remoteMisses;
+            return lookups == 0 ? 0 : (double) remoteHits / lookups;
+        }
+    }
+}
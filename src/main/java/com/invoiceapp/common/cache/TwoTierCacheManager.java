@@ -0,0 +1,76 @@
+package com.invoiceapp.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final Duration remoteTtl;
+    private final double earlyRefreshBeta;
+    private final Duration loadTimeout;
+
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, Cache> decoratedCaches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               CacheInvalidationPublisher invalidationPublisher,
+                               long localMaxSize,
+                               Duration localTtl,
+                               Duration remoteTtl,
+                               double earlyRefreshBeta,
+                               Duration loadTimeout) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.remoteTtl = remoteTtl;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.loadTimeout = loadTimeout;
+        invalidationPublisher.bind(caches::get);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return decoratedCaches.computeIfAbsent(name,
+                cacheName -> new TransactionAwareCacheDecorator(caches.computeIfAbsent(cacheName, this::createCache)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public Map<String, TwoTierCache.Stats> getStats() {
+        Map<String, TwoTierCache.Stats> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
+    }
+
+    private TwoTierCache createCache(String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            throw new IllegalStateException("No remote cache available for '" + name + "'");
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+
+        return new TwoTierCache(name, localCache, remoteCache, invalidationPublisher, remoteTtl, earlyRefreshBeta,
+                loadTimeout);
+    }
+}
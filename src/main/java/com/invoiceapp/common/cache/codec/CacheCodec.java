@@ -0,0 +1,10 @@
+package com.invoiceapp.common.cache.codec;
+
+import java.io.IOException;
+
+public interface CacheCodec<T> {
+    byte tag();
+    Class<T> type();
+    void write(T value, CodecWriter writer) throws IOException;
+    T read(CodecReader reader) throws IOException;
+}
@@ -0,0 +1,85 @@
+package com.invoiceapp.common.cache.codec;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public class CodecReader {
+
+    private final DataInputStream in;
+
+    public CodecReader(InputStream in) {
+        this.in = new DataInputStream(in);
+    }
+
+    public byte readByte() throws IOException {
+        return in.readByte();
+    }
+
+    public int readInt() throws IOException {
+        return in.readInt();
+    }
+
+    public long readLong() throws IOException {
+        return in.readLong();
+    }
+
+    public byte[] readBytes() throws IOException {
+        byte[] value = new byte[in.readInt()];
+        in.readFully(value);
+        return value;
+    }
+
+    public String readString() throws IOException {
+        return in.readBoolean() ? new String(readBytes(), StandardCharsets.UTF_8) : null;
+    }
+
+    public UUID readUuid() throws IOException {
+        return in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+    }
+
+    public BigDecimal readBigDecimal() throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        int scale = in.readInt();
+        return new BigDecimal(new BigInteger(readBytes()), scale);
+    }
+
+    public LocalDate readLocalDate() throws IOException {
+        return in.readBoolean() ? LocalDate.ofEpochDay(in.readLong()) : null;
+    }
+
+    public LocalDateTime readLocalDateTime() throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        LocalDate date = LocalDate.ofEpochDay(in.readLong());
+        return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+    }
+
+    public Integer readInteger() throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    public Long readNullableLong() throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    public Boolean readBoolean() throws IOException {
+        byte value = in.readByte();
+        return value < 0 ? null : value == 1;
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> type) throws IOException {
+        String name = readString();
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.invoiceapp.common.cache.codec;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class CodecWriter {
+
+    private final DataOutputStream out;
+
+    public CodecWriter(OutputStream out) {
+        this.out = new DataOutputStream(out);
+    }
+
+    public void writeByte(int value) throws IOException {
+        out.writeByte(value);
+    }
+
+    public void writeInt(int value) throws IOException {
+        out.writeInt(value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        out.writeLong(value);
+    }
+
+    public void writeBytes(byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    public void writeString(String value) throws IOException {
+        if (writeNullFlag(value)) {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    public void writeUuid(UUID value) throws IOException {
+        if (writeNullFlag(value)) {
+            out.writeLong(value.getMostSignificantBits());
+            out.writeLong(value.getLeastSignificantBits());
+        }
+    }
+
+    public void writeBigDecimal(BigDecimal value) throws IOException {
+        if (writeNullFlag(value)) {
+            out.writeInt(value.scale());
+            writeBytes(value.unscaledValue().toByteArray());
+        }
+    }
+
+    public void writeLocalDate(LocalDate value) throws IOException {
+        if (writeNullFlag(value)) {
+            out.writeLong(value.toEpochDay());
+        }
+    }
+
+    public void writeLocalDateTime(LocalDateTime value) throws IOException {
+        if (writeNullFlag(value)) {
+            out.writeLong(value.toLocalDate().toEpochDay());
+            out.writeLong(value.toLocalTime().toNanoOfDay());
+        }
+    }
+
+    public void writeInteger(Integer value) throws IOException {
+        if (writeNullFlag(value)) {
+            out.writeInt(value);
+        }
+    }
+
+    public void writeNullableLong(Long value) throws IOException {
+        if (writeNullFlag(value)) {
+            out.writeLong(value);
+        }
+    }
+
+    public void writeBoolean(Boolean value) throws IOException {
+        out.writeByte(value == null ? -1 : (value ? 1 : 0));
+    }
+
+    public void writeEnum(Enum<?> value) throws IOException {
+        writeString(value != null ? value.name() : null);
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private boolean writeNullFlag(Object value) throws IOException {
+        out.writeBoolean(value != null);
+        return value != null;
+    }
+}
@@ -0,0 +1,188 @@
+package com.invoiceapp.common.cache.codec;
+
+import com.invoiceapp.common.dto.PageDTO;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes registered cache values as a version byte, a type tag and their fields in a fixed order.
+ * Anything without a codec is stored as JSON behind {@link #JSON_TAG}. Entries written with another
+ * format version are read back as a cache miss.
+ */
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte FORMAT_VERSION = 2;
+    static final byte JSON_TAG = 0;
+    static final byte PAGE_TAG = 1;
+    static final byte EMPTY_ELEMENT_TAG = 0;
+
+    private final RedisSerializer<Object> fallbackSerializer;
+    private final Map<Class<?>, CacheCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Byte, CacheCodec<?>> codecsByTag = new HashMap<>();
+
+    public CompactCacheSerializer(Collection<CacheCodec<?>> codecs, RedisSerializer<Object> fallbackSerializer) {
+        this.fallbackSerializer = fallbackSerializer;
+        for (CacheCodec<?> codec : codecs) {
+            if (codec.tag() == JSON_TAG || codec.tag() == PAGE_TAG) {
+                throw new IllegalStateException("Cache codec tag " + codec.tag() + " is reserved");
+            }
+            CacheCodec<?> existing = codecsByTag.putIfAbsent(codec.tag(), codec);
+            if (existing != null) {
+                throw new IllegalStateException("Cache codec tag " + codec.tag() + " is used by both "
+                        + existing.type().getName() + " and " + codec.type().getName());
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            CodecWriter writer = new CodecWriter(bytes);
+            writer.writeByte(FORMAT_VERSION);
+
+            CacheCodec<Object> codec = codecFor(value);
+            CacheCodec<Object> elementCodec = value instanceof PageDTO<?> page ? pageElementCodec(page) : null;
+            if (elementCodec != null) {
+                writer.writeByte(PAGE_TAG);
+                writePage((PageDTO<?>) value, elementCodec, writer);
+            } else if (codec != null) {
+                writer.writeByte(codec.tag());
+                codec.write(value, writer);
+            } else {
+                writer.writeByte(JSON_TAG);
+                writer.writeBytes(fallbackSerializer.serialize(value));
+            }
+
+            writer.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value of type " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0 || bytes[0] != FORMAT_VERSION) {
+            return null;
+        }
+
+        try {
+            CodecReader reader = new CodecReader(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+            byte tag = reader.readByte();
+
+            if (tag == JSON_TAG) {
+                return fallbackSerializer.deserialize(reader.readBytes());
+            }
+            if (tag == PAGE_TAG) {
+                return readPage(reader);
+            }
+
+            CacheCodec<?> codec = codecsByTag.get(tag);
+            return codec != null ? codec.read(reader) : null;
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not read cache value", e);
+        }
+    }
+
+    private void writePage(PageDTO<?> page, CacheCodec<Object> elementCodec, CodecWriter writer) throws IOException {
+        List<?> content = page.getContent();
+        writer.writeByte(content.isEmpty() ? EMPTY_ELEMENT_TAG : elementCodec.tag());
+        writer.writeInteger(page.getTotalPages());
+        writer.writeNullableLong(page.getTotalElements());
+        writer.writeInt(page.getNumber());
+        writer.writeInt(page.getSize());
+        writer.writeString(page.getNextCursor());
+        writer.writeBoolean(page.getHasNext());
+        writer.writeInt(content.size());
+        for (Object element : content) {
+            elementCodec.write(element, writer);
+        }
+    }
+
+    private PageDTO<Object> readPage(CodecReader reader) throws IOException {
+        byte elementTag = reader.readByte();
+        Integer totalPages = reader.readInteger();
+        Long totalElements = reader.readNullableLong();
+        int number = reader.readInt();
+        int size = reader.readInt();
+        String nextCursor = reader.readString();
+        Boolean hasNext = reader.readBoolean();
+        int count = reader.readInt();
+
+        CacheCodec<?> elementCodec = codecsByTag.get(elementTag);
+        if (count > 0 && elementCodec == null) {
+            return null;
+        }
+
+        List<Object> content = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            content.add(elementCodec.read(reader));
+        }
+        return new PageDTO<>(content, totalPages, totalElements, number, size, nextCursor, hasNext);
+    }
+
+    private CacheCodec<Object> pageElementCodec(PageDTO<?> page) {
+        List<?> content = page.getContent();
+        if (content == null) {
+            return null;
+        }
+        if (content.isEmpty()) {
+            return EmptyPageCodec.INSTANCE;
+        }
+
+        CacheCodec<Object> codec = codecFor(content.get(0));
+        if (codec == null) {
+            return null;
+        }
+        for (Object element : content) {
+            if (element == null || element.getClass() != codec.type()) {
+                return null;
+            }
+        }
+        return codec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheCodec<Object> codecFor(Object value) {
+        return value != null ? (CacheCodec<Object>) codecsByType.get(value.getClass()) : null;
+    }
+
+    private enum EmptyPageCodec implements CacheCodec<Object> {
+        INSTANCE;
+
+        @Override
+        public byte tag() {
+            return EMPTY_ELEMENT_TAG;
+        }
+
+        @Override
+        public Class<Object> type() {
+            return Object.class;
+        }
+
+        @Override
+        public void write(Object value, CodecWriter writer) {
+            throw new UnsupportedOperationException("Empty pages have no elements to write");
+        }
+
+        @Override
+        public Object read(CodecReader reader) {
+            throw new UnsupportedOperationException("Empty pages have no elements to read");
+        }
+    }
+}
@@ -4,6 +4,12 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.invoiceapp.common.cache.CacheInvalidationPublisher;
+import com.invoiceapp.common.cache.TwoTierCacheManager;
+import com.invoiceapp.common.cache.codec.CacheCodec;
+import com.invoiceapp.common.cache.codec.CompactCacheSerializer;
+import com.invoiceapp.common.service.implement.RedisCacheGenerationService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,11 +18,15 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableCaching
@@ -51,7 +61,37 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheInvalidationPublisher cacheInvalidationPublisher(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${app.cache.invalidation-channel:cache:invalidation}") String channel) {
+        return new CacheInvalidationPublisher(stringRedisTemplate, channel);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            RedisCacheGenerationService cacheGenerationService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidationPublisher,
+                new ChannelTopic(cacheInvalidationPublisher.getChannel()));
+        container.addMessageListener(cacheGenerationService,
+                new ChannelTopic(cacheGenerationService.getChannel()));
+        return container;
+    }
+
+    @Bean
+    public TwoTierCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            List<CacheCodec<?>> cacheCodecs,
+            @Value("${app.cache.codec:compact}") String cacheCodec,
+            @Value("${app.cache.local.max-size:10000}") long localMaxSize,
+            @Value("${app.cache.local.ttl:PT30S}") Duration localTtl,
+            @Value("${app.cache.ttl:PT5M}") Duration remoteTtl,
+            @Value("${app.cache.early-refresh-beta:1.0}") double earlyRefreshBeta,
+            @Value("${app.cache.load-timeout:PT10S}") Duration loadTimeout) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.activateDefaultTyping(
@@ -60,11 +100,14 @@ public class RedisConfig {
                 JsonTypeInfo.As.PROPERTY
         );
 
-        GenericJackson2JsonRedisSerializer serializer =
+        GenericJackson2JsonRedisSerializer jsonSerializer =
                 new GenericJackson2JsonRedisSerializer(objectMapper);
+        RedisSerializer<Object> serializer = "json".equalsIgnoreCase(cacheCodec)
+                ? jsonSerializer
+                : new CompactCacheSerializer(cacheCodecs, jsonSerializer);
 
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(5))
+                .entryTtl(remoteTtl)
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
                                 new StringRedisSerializer()
@@ -75,10 +118,13 @@ public class RedisConfig {
                 )
                 .disableCachingNullValues();
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
-                .transactionAware()
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoTierCacheManager(redisCacheManager, cacheInvalidationPublisher,
+                localMaxSize, localTtl, remoteTtl, earlyRefreshBeta, loadTimeout);
     }
 }
 
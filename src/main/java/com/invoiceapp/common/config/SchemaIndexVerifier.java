@@ -0,0 +1,73 @@
+package com.invoiceapp.common.config;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Refuses to start when an index that the hot queries rely on is missing or was left invalid by an
+ * interrupted CREATE INDEX CONCURRENTLY, instead of letting those queries silently fall back to
+ * sequential scans.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.schema.verify-indexes", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier implements SmartInitializingSingleton {
+
+    static final List<String> REQUIRED_INDEXES = List.of(
+            "idx_invoices_user_created_active",
+            "idx_clients_user_created_active",
+            "idx_products_user_created_active",
+            "idx_invoices_status_due_active",
+            "idx_invoices_recurring_next_generation",
+            "idx_clients_user_email",
+            "idx_invoice_items_invoice",
+            "idx_invoices_client",
+            "idx_email_outbox_pending",
+            "idx_email_outbox_sending",
+            "idx_invoices_number_trgm",
+            "idx_invoices_number_lower_trgm",
+            "idx_invoices_notes_fts",
+            "idx_clients_name_trgm",
+            "idx_clients_email_trgm",
+            "idx_clients_name_lower_trgm",
+            "idx_products_name_trgm",
+            "idx_products_name_lower_trgm",
+            "idx_invoice_items_product_name_trgm",
+            "idx_invoices_line_item_names_trgm"
+    );
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterSingletonsInstantiated() {
+        List<String> validIndexes = transactionTemplate.execute(status -> entityManager.createNativeQuery("""
+                        SELECT c.relname
+                        FROM pg_index i
+                        JOIN pg_class c ON c.oid = i.indexrelid
+                        JOIN pg_namespace n ON n.oid = c.relnamespace
+                        WHERE n.nspname = current_schema() AND i.indisvalid
+                        """)
+                .getResultList());
+
+        Set<String> missing = new LinkedHashSet<>(REQUIRED_INDEXES);
+        missing.removeAll(validIndexes);
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing or invalid database indexes: " + missing
+                    + ". Run the schema migrations or set app.schema.verify-indexes=false.");
+        }
+        log.info("Verified {} required database indexes", REQUIRED_INDEXES.size());
+    }
+}
@@ -36,11 +36,17 @@ public final class AppConstants {
     public static final String REDIS_EMAIL_VERIFY_PREFIX = "email_verify:";
     public static final String REDIS_PASSWORD_RESET_PREFIX = "password_reset:";
     public static final String REDIS_EMAIL_CHANGE_PREFIX = "email_change:";
+    public static final String REDIS_EMAIL_VERIFY_OWNER_PREFIX = "email_verify_owner:";
+    public static final String REDIS_PASSWORD_RESET_OWNER_PREFIX = "password_reset_owner:";
+    public static final String REDIS_EMAIL_CHANGE_OWNER_PREFIX = "email_change_owner:";
     public static final String REDIS_REFRESH_TOKEN_PREFIX = "refresh_token:";
+    public static final String REDIS_REFRESH_SESSIONS_PREFIX = "refresh_sessions:user:";
+    public static final String REDIS_REFRESH_SESSIONS_MIGRATED = "migration:refresh_sessions_indexed";
     public static final String REDIS_PUBLIC_ACTION_PREFIX = "public_action:";
     public static final String REDIS_INVOICE_SEQUENCE_PREFIX = "invoice:sequence:";
     public static final String REDIS_USER_CODE_PREFIX = "user:code:";
     public static final String REDIS_USER_CODE_SEQUENCE = "user:code:sequence";
+    public static final String REDIS_CACHE_GENERATION_PREFIX = "cache_generation:";
 
     // Cache Names
     public static final String CACHE_INVOICES = "invoices";
@@ -1,5 +1,6 @@
 package com.invoiceapp.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -9,11 +10,24 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageDTO<T> {
 
     private List<T> content;
-    private int totalPages;
-    private long totalElements;
+    private Integer totalPages;
+    private Long totalElements;
     private int number;
     private int size;
-}
\ No newline at end of file
+    private String nextCursor;
+    private Boolean hasNext;
+
+    public PageDTO(List<T> content, int totalPages, long totalElements, int number, int size) {
+        this(content, totalPages, totalElements, number, size, null, null);
+    }
+
+    public static <T> PageDTO<T> ofWindow(List<T> content, int size, String nextCursor, boolean hasNext,
+                                          Long totalElements) {
+        Integer totalPages = totalElements != null ? (int) ((totalElements + size - 1) / size) : null;
+        return new PageDTO<>(content, totalPages, totalElements, 0, size, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,100 @@
+package com.invoiceapp.common.pagination;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invoiceapp.common.exception.BadRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.stereotype.Component;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Turns keyset scroll positions into opaque URL-safe tokens and back. A token records the sort it was
+ * issued for, so it cannot be replayed against a different ordering, and its values are converted back
+ * to the entity's attribute types on the way in. Date and time keys are written as ISO-8601 so they
+ * parse back without losing precision.
+ */
+@Component
+@RequiredArgsConstructor
+public class CursorCodec {
+
+    private static final String SORT_FIELD = "s";
+    private static final String KEYS_FIELD = "k";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConversionService conversionService = createConversionService();
+
+    public Sort keysetSort(String sortBy, String sortDir) {
+        Sort.Direction direction = sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        return "id".equals(sortBy) ? sort : sort.and(Sort.by(direction, "id"));
+    }
+
+    public String encode(ScrollPosition position, Sort sort) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+            return null;
+        }
+
+        Map<String, String> keys = new LinkedHashMap<>();
+        keyset.getKeys().forEach((property, value) ->
+                keys.put(property, value != null ? conversionService.convert(value, String.class) : null));
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(Map.of(SORT_FIELD, sort.toString(), KEYS_FIELD, keys));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not encode scroll cursor", e);
+        }
+    }
+
+    public KeysetScrollPosition decode(String cursor, Sort sort, Class<?> entityClass) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> token;
+        try {
+            token = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), new TypeReference<>() {});
+        } catch (Exception e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        if (!sort.toString().equals(token.get(SORT_FIELD)) || !(token.get(KEYS_FIELD) instanceof Map<?, ?> rawKeys)) {
+            throw new BadRequestException("Cursor does not match the requested sort");
+        }
+
+        EntityType<?> entityType = entityManager.getMetamodel().entity(entityClass);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            for (Sort.Order order : sort) {
+                String property = order.getProperty();
+                Object value = rawKeys.get(property);
+                Class<?> javaType = entityType.getAttribute(property).getJavaType();
+                keys.put(property, value != null ? conversionService.convert(value, javaType) : null);
+            }
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+
+    private static ConversionService createConversionService() {
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService(false);
+        DateTimeFormatterRegistrar registrar = new DateTimeFormatterRegistrar();
+        registrar.setUseIsoFormat(true);
+        registrar.registerFormatters(conversionService);
+        return conversionService;
+    }
+}
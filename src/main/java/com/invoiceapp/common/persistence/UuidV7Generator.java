@@ -0,0 +1,54 @@
+package com.invoiceapp.common.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static long lastMillis;
+    private static int sequence;
+
+    public static UUID next() {
+        long millis;
+        int seq;
+        synchronized (UuidV7Generator.class) {
+            millis = Math.max(System.currentTimeMillis(), lastMillis);
+            if (millis == lastMillis) {
+                if (sequence == MAX_SEQUENCE) {
+                    millis++;
+                    sequence = RANDOM.nextInt(0x800);
+                } else {
+                    sequence++;
+                }
+            } else {
+                sequence = RANDOM.nextInt(0x800);
+            }
+            lastMillis = millis;
+            seq = sequence;
+        }
+
+        long mostSigBits = (millis << 16) | 0x7000L | seq;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner,
+                           Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
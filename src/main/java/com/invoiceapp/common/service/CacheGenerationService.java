@@ -0,0 +1,9 @@
+package com.invoiceapp.common.service;
+
+import java.util.UUID;
+
+public interface CacheGenerationService {
+    String currentGeneration(String cacheName, UUID userId);
+    void bumpGeneration(String cacheName, UUID userId);
+    void bumpGlobalGeneration(String cacheName);
+}
@@ -0,0 +1,122 @@
+package com.invoiceapp.common.service.implement;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.invoiceapp.common.constants.AppConstants;
+import com.invoiceapp.common.service.CacheGenerationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Generation counters live in Redis and are mirrored in a short-lived local cache, so building a cache
+ * key does not cost a Redis round trip. A bump invalidates the local copy on the bumping instance at
+ * once and on the other instances through the generation channel; the local TTL bounds staleness when
+ * a pub/sub message is lost.
+ */
+@Service("cacheGenerationService")
+@Slf4j
+public class RedisCacheGenerationService implements CacheGenerationService, MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String channel;
+    private final Cache<String, String> localGenerations;
+
+    public RedisCacheGenerationService(StringRedisTemplate stringRedisTemplate,
+                                       @Value("${app.cache.generation-channel:cache:generation}") String channel,
+                                       @Value("${app.cache.generation-local-ttl:PT5S}") Duration localTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channel = channel;
+        this.localGenerations = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public String currentGeneration(String cacheName, UUID userId) {
+        String globalKey = globalKey(cacheName);
+        String userKey = userKey(cacheName, userId);
+        Map<String, String> generations = localGenerations.getAll(List.of(globalKey, userKey), this::loadGenerations);
+
+        return "g" + generations.get(globalKey) + "." + generations.get(userKey);
+    }
+
+    @Override
+    public void bumpGeneration(String cacheName, UUID userId) {
+        incrementAfterCommit(userKey(cacheName, userId));
+    }
+
+    @Override
+    public void bumpGlobalGeneration(String cacheName) {
+        incrementAfterCommit(globalKey(cacheName));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localGenerations.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private Map<String, String> loadGenerations(Iterable<? extends String> keys) {
+        List<String> keyList = new ArrayList<>();
+        keys.forEach(keyList::add);
+
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keyList);
+        Map<String, String> generations = new HashMap<>();
+        for (int i = 0; i < keyList.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            generations.put(keyList.get(i), value != null ? value : "0");
+        }
+        return generations;
+    }
+
+    private void incrementAfterCommit(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(key);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(key);
+            }
+        });
+    }
+
+    private void increment(String key) {
+        stringRedisTemplate.opsForValue().increment(key);
+        localGenerations.invalidate(key);
+
+        try {
+            stringRedisTemplate.convertAndSend(channel, key);
+        } catch (Exception e) {
+            log.warn("Failed to publish cache generation bump for '{}': {}", key, e.getMessage());
+        }
+    }
+
+    private String globalKey(String cacheName) {
+        return AppConstants.REDIS_CACHE_GENERATION_PREFIX + cacheName;
+    }
+
+    private String userKey(String cacheName, UUID userId) {
+        return AppConstants.REDIS_CACHE_GENERATION_PREFIX + cacheName + ":" + userId;
+    }
+}
@@ -6,7 +6,9 @@ import com.invoiceapp.dashboard.application.service.DashboardService;
 import com.invoiceapp.dashboard.presentation.dto.response.DashboardStatsResponse;
 import com.invoiceapp.dashboard.presentation.dto.response.RecentActivityResponse;
 import com.invoiceapp.invoice.application.mapper.InvoiceMapper;
+import com.invoiceapp.invoice.application.service.InvoiceSummaryService;
 import com.invoiceapp.invoice.domain.entity.Invoice;
+import com.invoiceapp.invoice.domain.entity.InvoiceStatusTotal;
 import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
 import com.invoiceapp.invoice.infrastructure.repository.InvoiceRepository;
 import com.invoiceapp.invoice.presentation.dto.response.InvoiceResponse;
@@ -14,6 +16,7 @@ import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Session;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -33,53 +36,58 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DashboardServiceImpl implements DashboardService {
 
+    private static final String DASHBOARD_CACHE = "dashboard";
+
     private final InvoiceRepository invoiceRepository;
     private final ClientRepository clientRepository;
     private final InvoiceMapper invoiceMapper;
+    private final InvoiceSummaryService invoiceSummaryService;
     private final EntityManager entityManager;
 
     @Override
+    @Cacheable(
+            cacheNames = DASHBOARD_CACHE,
+            key = "#userId + ':' + @cacheGenerationService.currentGeneration('invoices', #userId)"
+                    + " + ':' + @cacheGenerationService.currentGeneration('clients', #userId)",
+            sync = true
+    )
     public DashboardStatsResponse getDashboardStats(UUID userId) {
-        Session session = entityManager.unwrap(Session.class);
-        session.disableFilter("deletedClientFilter");
-
-        Specification<Invoice> userSpec = BaseSpecification.withUserId(userId, "user");
-        List<Invoice> allInvoices = invoiceRepository.findAll(userSpec);
-
         BigDecimal totalRevenue = BigDecimal.ZERO;
         BigDecimal pendingAmount = BigDecimal.ZERO;
         BigDecimal paidAmount = BigDecimal.ZERO;
         BigDecimal overdueAmount = BigDecimal.ZERO;
 
+        long totalInvoices = 0;
         long pendingCount = 0;
         long paidCount = 0;
         long overdueCount = 0;
 
-        for (Invoice invoice : allInvoices) {
-            BigDecimal total = invoice.getTotal();
+        for (InvoiceStatusTotal statusTotal : invoiceSummaryService.getTotals(userId)) {
+            BigDecimal total = statusTotal.getTotalAmount();
+            long count = statusTotal.getInvoiceCount();
+            totalInvoices += count;
 
-            switch (invoice.getStatus()) {
+            switch (statusTotal.getId().getStatus()) {
                 case PAID:
                     paidAmount = paidAmount.add(total);
                     totalRevenue = totalRevenue.add(total);
-                    paidCount++;
+                    paidCount += count;
                     break;
                 case SENT:
                 case DUE:
                     pendingAmount = pendingAmount.add(total);
-                    pendingCount++;
+                    pendingCount += count;
                     break;
                 case OVERDUE:
                     overdueAmount = overdueAmount.add(total);
-                    overdueCount++;
+                    overdueCount += count;
                     break;
                 default:
                     break;
             }
         }
 
-        session.enableFilter("deletedClientFilter");
-        long totalClients = clientRepository.count(BaseSpecification.withUserId(userId, "user"));
+        long totalClients = clientRepository.countByUserIdAndDeletedAtIsNull(userId);
 
         return DashboardStatsResponse.builder()
                 .totalRevenue(totalRevenue)
@@ -87,7 +95,7 @@ public class DashboardServiceImpl implements DashboardService {
                 .paidAmount(paidAmount)
                 .overdueAmount(overdueAmount)
                 .totalClients(totalClients)
-                .totalInvoices((long) allInvoices.size())
+                .totalInvoices(totalInvoices)
                 .pendingInvoicesCount(pendingCount)
                 .paidInvoicesCount(paidCount)
                 .overdueInvoicesCount(overdueCount)
@@ -0,0 +1,142 @@
+package com.invoiceapp.invoice.application.helper;
+
+import com.invoiceapp.common.exception.ResourceNotFoundException;
+import com.invoiceapp.common.persistence.UuidV7Generator;
+import com.invoiceapp.invoice.domain.entity.Invoice;
+import com.invoiceapp.invoice.domain.entity.InvoiceItem;
+import com.invoiceapp.invoice.domain.entity.InvoiceLineItem;
+import com.invoiceapp.product.infrastructure.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes invoice lines either as {@code invoice_items} rows ({@code table}) or as the invoice's
+ * {@code line_items} JSONB document ({@code jsonb}). Reads go through {@link Invoice#currentLineItems()},
+ * so invoices stored either way stay readable while the storage mode is switched.
+ */
+@Component
+@RequiredArgsConstructor
+public class InvoiceLineItemStorage {
+
+    private final ProductRepository productRepository;
+
+    @Value("${app.invoice.line-item-storage:table}")
+    private String storageMode;
+
+    public boolean isJsonb() {
+        return "jsonb".equalsIgnoreCase(storageMode);
+    }
+
+    public void replaceLineItems(Invoice invoice, List<InvoiceLineItem> lineItems) {
+        invoice.getItems().clear();
+
+        if (isJsonb()) {
+            invoice.setLineItems(new ArrayList<>(lineItems));
+            return;
+        }
+
+        invoice.setLineItems(null);
+        for (InvoiceLineItem line : lineItems) {
+            invoice.addItem(InvoiceItem.builder()
+                    .product(productRepository.getReferenceById(line.getProductId()))
+                    .productName(line.getProductName())
+                    .productDescription(line.getProductDescription())
+                    .quantity(line.getQuantity())
+                    .unitPrice(line.getUnitPrice())
+                    .build());
+        }
+    }
+
+    /**
+     * Applies {@code lineItems} on top of the invoice's current lines. Incoming lines are matched to
+     * existing ones by item ID when given, otherwise by product, so unchanged rows are left untouched,
+     * changed rows are updated in place and only unmatched lines are inserted or deleted.
+     */
+    public void mergeLineItems(Invoice invoice, List<InvoiceLineItem> lineItems) {
+        List<InvoiceLineItem> resolved = matchExisting(invoice.currentLineItems(), lineItems);
+
+        if (isJsonb()) {
+            invoice.getItems().clear();
+            invoice.setLineItems(new ArrayList<>(resolved));
+            return;
+        }
+
+        if (invoice.getLineItems() != null) {
+            replaceLineItems(invoice, resolved);
+            return;
+        }
+
+        Map<UUID, InvoiceItem> existing = new LinkedHashMap<>();
+        invoice.getItems().forEach(item -> existing.put(item.getId(), item));
+
+        Set<UUID> kept = new HashSet<>();
+        List<InvoiceItem> added = new ArrayList<>();
+        for (InvoiceLineItem line : resolved) {
+            InvoiceItem item = existing.get(line.getId());
+            if (item == null) {
+                item = InvoiceItem.builder().build();
+                added.add(item);
+            } else {
+                kept.add(item.getId());
+            }
+            apply(item, line);
+        }
+
+        invoice.getItems().removeIf(item -> !kept.contains(item.getId()));
+        added.forEach(invoice::addItem);
+    }
+
+    private List<InvoiceLineItem> matchExisting(List<InvoiceLineItem> current, List<InvoiceLineItem> lineItems) {
+        Map<UUID, InvoiceLineItem> unclaimed = new LinkedHashMap<>();
+        current.forEach(line -> unclaimed.put(line.getId(), line));
+
+        for (InvoiceLineItem line : lineItems) {
+            if (line.getId() != null && unclaimed.remove(line.getId()) == null) {
+                throw new ResourceNotFoundException("Invoice item not found: " + line.getId());
+            }
+        }
+
+        List<InvoiceLineItem> resolved = new ArrayList<>(lineItems.size());
+        for (InvoiceLineItem line : lineItems) {
+            if (line.getId() != null) {
+                resolved.add(line);
+                continue;
+            }
+
+            UUID matchedId = unclaimed.values().stream()
+                    .filter(existing -> Objects.equals(existing.getProductId(), line.getProductId()))
+                    .map(InvoiceLineItem::getId)
+                    .findFirst()
+                    .orElse(null);
+
+            if (matchedId != null) {
+                unclaimed.remove(matchedId);
+            }
+            resolved.add(line.toBuilder()
+                    .id(matchedId != null ? matchedId : UuidV7Generator.next())
+                    .build());
+        }
+        return resolved;
+    }
+
+    private void apply(InvoiceItem item, InvoiceLineItem line) {
+        if (item.getProduct() == null || !Objects.equals(item.getProduct().getId(), line.getProductId())) {
+            item.setProduct(productRepository.getReferenceById(line.getProductId()));
+        }
+        item.setProductName(line.getProductName());
+        item.setProductDescription(line.getProductDescription());
+        item.setQuantity(line.getQuantity());
+        item.setUnitPrice(line.getUnitPrice());
+        item.setTotal(line.getTotal());
+    }
+}
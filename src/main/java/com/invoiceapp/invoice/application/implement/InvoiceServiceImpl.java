@@ -7,16 +7,21 @@ import com.invoiceapp.client.infrastructure.repository.ClientRepository;
 import com.invoiceapp.common.dto.PageDTO;
 import com.invoiceapp.common.exception.BadRequestException;
 import com.invoiceapp.common.exception.ResourceNotFoundException;
+import com.invoiceapp.common.pagination.CursorCodec;
+import com.invoiceapp.common.service.CacheGenerationService;
 import com.invoiceapp.common.specification.BaseSpecification;
+import com.invoiceapp.invoice.application.helper.InvoiceLineItemStorage;
 import com.invoiceapp.invoice.application.helper.RecurringInvoiceHelper;
 import com.invoiceapp.invoice.application.mapper.InvoiceMapper;
 import com.invoiceapp.invoice.application.service.InvoiceEmailService;
 import com.invoiceapp.invoice.application.service.InvoiceService;
+import com.invoiceapp.invoice.application.service.InvoiceSummaryService;
 import com.invoiceapp.invoice.domain.entity.Invoice;
-import com.invoiceapp.invoice.domain.entity.InvoiceItem;
+import com.invoiceapp.invoice.domain.entity.InvoiceLineItem;
 import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
 import com.invoiceapp.invoice.infrastructure.repository.InvoiceRepository;
 import com.invoiceapp.invoice.infrastructure.util.InvoiceNumberGenerator;
+import com.invoiceapp.invoice.presentation.dto.request.InvoiceItemPatchRequest;
 import com.invoiceapp.invoice.presentation.dto.request.InvoiceItemRequest;
 import com.invoiceapp.invoice.presentation.dto.request.InvoiceRequest;
 import com.invoiceapp.invoice.presentation.dto.response.InvoiceResponse;
@@ -24,18 +29,27 @@ import com.invoiceapp.product.domain.entity.Product;
 import com.invoiceapp.product.infrastructure.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -43,6 +57,8 @@ import java.util.UUID;
 @Slf4j
 public class InvoiceServiceImpl implements InvoiceService {
 
+    private static final String INVOICES_CACHE = "invoices";
+
     private final InvoiceRepository invoiceRepository;
     private final UserRepository userRepository;
     private final ClientRepository clientRepository;
@@ -51,9 +67,12 @@ public class InvoiceServiceImpl implements InvoiceService {
     private final InvoiceEmailService invoiceEmailService;
     private final InvoiceMapper invoiceMapper;
     private final RecurringInvoiceHelper recurringInvoiceHelper;
+    private final InvoiceLineItemStorage invoiceLineItemStorage;
+    private final InvoiceSummaryService invoiceSummaryService;
+    private final CacheGenerationService cacheGenerationService;
+    private final CursorCodec cursorCodec;
 
     @Override
-    @CacheEvict(value = "invoices", key = "#userId.toString()")
     public InvoiceResponse createInvoice(InvoiceRequest request, UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -83,39 +102,28 @@ public class InvoiceServiceImpl implements InvoiceService {
                 )
                 .build();
 
-        for (InvoiceItemRequest itemRequest : request.getItems()) {
-            Product product = productRepository.findByIdAndUserId(itemRequest.getProductId(), userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
-
-            InvoiceItem item = InvoiceItem.builder()
-                    .product(product)
-                    .productName(product.getName())
-                    .productDescription(product.getDescription())
-                    .quantity(itemRequest.getQuantity())
-                    .unitPrice(product.getPrice())
-                    .build();
-
-            invoice.addItem(item);
-        }
+        addItems(invoice, request.getItems(), userId);
 
         invoice.calculateTotals();
         invoice = invoiceRepository.save(invoice);
+        invoiceSummaryService.recordCreated(invoice);
 
         if (invoice.getStatus() == InvoiceStatus.SENT) {
             invoiceEmailService.sendInvoiceActionEmail(invoice);
         }
 
+        cacheGenerationService.bumpGeneration(INVOICES_CACHE, userId);
         log.info("Invoice created: {} for user: {}", invoice.getInvoiceNumber(), userId);
         return invoiceMapper.toResponse(invoice);
     }
 
     @Override
-    @CacheEvict(value = "invoices", key = "#userId.toString()")
     public InvoiceResponse updateInvoice(UUID invoiceId, InvoiceRequest request, UUID userId) {
         Invoice invoice = invoiceRepository.findByIdAndUserId(invoiceId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Invoice not found"));
 
         InvoiceStatus oldStatus = invoice.getStatus();
+        BigDecimal oldTotal = invoice.getTotal();
 
         Client client = clientRepository.findByIdAndUserId(request.getClientId(), userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Client not found"));
@@ -126,7 +134,6 @@ public class InvoiceServiceImpl implements InvoiceService {
         invoice.setStatus(request.getStatus());
         invoice.setTaxRate(request.getTaxRate());
         invoice.setNotes(request.getNotes());
-        invoice.getItems().clear();
         if (request.getStatus() == InvoiceStatus.CANCELLED &&
                 Boolean.TRUE.equals(invoice.getIsRecurring())) {
             invoice.setIsRecurring(false);
@@ -134,23 +141,11 @@ public class InvoiceServiceImpl implements InvoiceService {
                     invoice.getInvoiceNumber());
         }
 
-        for (InvoiceItemRequest itemRequest : request.getItems()) {
-            Product product = productRepository.findByIdAndUserId(itemRequest.getProductId(), userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
-
-            InvoiceItem item = InvoiceItem.builder()
-                    .product(product)
-                    .productName(product.getName())
-                    .productDescription(product.getDescription())
-                    .quantity(itemRequest.getQuantity())
-                    .unitPrice(product.getPrice())
-                    .build();
-
-            invoice.addItem(item);
-        }
+        mergeItems(invoice, request.getItems(), userId);
 
         invoice.calculateTotals();
         invoice = invoiceRepository.save(invoice);
+        invoiceSummaryService.recordUpdated(invoice, oldStatus, oldTotal);
 
         if (oldStatus != request.getStatus()) {
             if (request.getStatus() == InvoiceStatus.SENT) {
@@ -160,17 +155,56 @@ public class InvoiceServiceImpl implements InvoiceService {
             }
         }
 
+        cacheGenerationService.bumpGeneration(INVOICES_CACHE, userId);
         log.info("Invoice updated: {} for user: {}", invoice.getInvoiceNumber(), userId);
         return invoiceMapper.toResponse(invoice);
     }
 
     @Override
-    @CacheEvict(value = "invoices", key = "#userId.toString()")
-    public void deleteInvoice(UUID invoiceId, UUID userId) {
-        if (!invoiceRepository.existsByIdAndUserId(invoiceId, userId)) {
-            throw new ResourceNotFoundException("Invoice not found");
+    public InvoiceResponse updateInvoiceItem(UUID invoiceId, UUID itemId, InvoiceItemPatchRequest request, UUID userId) {
+        Invoice invoice = invoiceRepository.findByIdAndUserId(invoiceId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Invoice not found"));
+
+        InvoiceStatus oldStatus = invoice.getStatus();
+        BigDecimal oldTotal = invoice.getTotal();
+
+        List<InvoiceLineItem> current = invoice.currentLineItems();
+        InvoiceLineItem target = current.stream()
+                .filter(line -> line.getId().equals(itemId))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Invoice item not found"));
+
+        Integer quantity = request.getQuantity() != null ? request.getQuantity() : target.getQuantity();
+        InvoiceLineItem updated;
+        if (request.getProductId() != null && !request.getProductId().equals(target.getProductId())) {
+            Product product = productRepository.findByIdAndUserId(request.getProductId(), userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
+            updated = InvoiceLineItem.of(product, quantity).toBuilder().id(itemId).build();
+        } else {
+            updated = target.withQuantity(quantity);
         }
-        invoiceRepository.deleteById(invoiceId);
+
+        invoiceLineItemStorage.mergeLineItems(invoice, current.stream()
+                .map(line -> line.getId().equals(itemId) ? updated : line)
+                .collect(Collectors.toList()));
+
+        invoice.calculateTotals();
+        invoice = invoiceRepository.save(invoice);
+        invoiceSummaryService.recordUpdated(invoice, oldStatus, oldTotal);
+
+        cacheGenerationService.bumpGeneration(INVOICES_CACHE, userId);
+        log.info("Invoice item {} updated on invoice {} for user: {}", itemId, invoice.getInvoiceNumber(), userId);
+        return invoiceMapper.toResponse(invoice);
+    }
+
+    @Override
+    public void deleteInvoice(UUID invoiceId, UUID userId) {
+        Invoice invoice = invoiceRepository.findByIdAndUserId(invoiceId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Invoice not found"));
+
+        invoiceRepository.delete(invoice);
+        invoiceSummaryService.recordDeleted(invoice);
+        cacheGenerationService.bumpGeneration(INVOICES_CACHE, userId);
         log.info("Invoice deleted: {} for user: {}", invoiceId, userId);
     }
 
@@ -184,9 +218,11 @@ public class InvoiceServiceImpl implements InvoiceService {
 
     @Override
     @Cacheable(
-            cacheNames = "invoices",
-            key = "#userId.toString()",
-            condition = "#search == null && #status == null && #startDate == null && #endDate == null && #isRecurring == null"
+            cacheNames = INVOICES_CACHE,
+            key = "#userId + ':' + @cacheGenerationService.currentGeneration('invoices', #userId)"
+                    + " + ':' + #page + ':' + #size + ':' + #sortBy + ':' + #sortDir + ':' + #search"
+                    + " + ':' + #status + ':' + #startDate + ':' + #endDate + ':' + #isRecurring",
+            sync = true
     )
     @Transactional(readOnly = true)
     public PageDTO<InvoiceResponse> getAllInvoices(
@@ -209,27 +245,66 @@ public class InvoiceServiceImpl implements InvoiceService {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Specification<Invoice> spec = Specification.allOf(
+        Specification<Invoice> spec = invoiceSpecification(userId, search, status, startDate, endDate, isRecurring);
+
+        Page<UUID> invoiceIds = invoiceRepository.findIds(spec, pageable);
+        List<InvoiceResponse> content = toResponsesInOrder(invoiceIds.getContent());
+
+        return new PageDTO<>(
+                content,
+                invoiceIds.getTotalPages(),
+                invoiceIds.getTotalElements(),
+                invoiceIds.getNumber(),
+                invoiceIds.getSize()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<InvoiceResponse> scrollInvoices(
+            UUID userId,
+            String cursor,
+            int size,
+            String sortBy,
+            String sortDir,
+            String search,
+            InvoiceStatus status,
+            LocalDate startDate,
+            LocalDate endDate,
+            Boolean isRecurring,
+            boolean includeTotal) {
+
+        Sort sort = cursorCodec.keysetSort(sortBy, sortDir);
+        KeysetScrollPosition position = cursorCodec.decode(cursor, sort, Invoice.class);
+        Specification<Invoice> spec = invoiceSpecification(userId, search, status, startDate, endDate, isRecurring);
+
+        Window<Invoice> window = invoiceRepository.findBy(spec,
+                query -> query.sortBy(sort).limit(size).scroll(position));
+
+        List<InvoiceResponse> content = toResponsesInOrder(window.stream()
+                .map(Invoice::getId)
+                .collect(Collectors.toList()));
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? cursorCodec.encode(window.positionAt(window.size() - 1), sort)
+                : null;
+
+        return PageDTO.ofWindow(content, size, nextCursor, window.hasNext(),
+                includeTotal ? invoiceRepository.count(spec) : null);
+    }
+
+    private Specification<Invoice> invoiceSpecification(UUID userId, String search, InvoiceStatus status,
+                                                        LocalDate startDate, LocalDate endDate, Boolean isRecurring) {
+        return Specification.allOf(
                 BaseSpecification.<Invoice>withUserId(userId, "user"),
                 BaseSpecification.<Invoice>withSearch(search, "invoiceNumber"),
                 BaseSpecification.<Invoice, InvoiceStatus>withEquals("status", status),
                 BaseSpecification.<Invoice, LocalDate>withDateRange("issueDate", startDate, endDate),
                 BaseSpecification.<Invoice, Boolean>withEquals("isRecurring", isRecurring)
         );
-
-        Page<Invoice> invoices = invoiceRepository.findAll(spec, pageable);
-        Page<InvoiceResponse> invoiceResponsePage = invoices.map(invoiceMapper::toResponse);
-
-        return new PageDTO<>(
-                invoiceResponsePage.getContent(),
-                invoiceResponsePage.getTotalPages(),
-                invoiceResponsePage.getTotalElements(),
-                invoiceResponsePage.getNumber(),
-                invoiceResponsePage.getSize()
-        );
     }
+
     @Override
-    @CacheEvict(value = "invoices", key = "#userId.toString()")
     @Transactional
     public InvoiceResponse stopRecurring(UUID invoiceId, UUID userId) {
         Invoice invoice = invoiceRepository.findByIdAndUserId(invoiceId, userId)
@@ -243,11 +318,11 @@ public class InvoiceServiceImpl implements InvoiceService {
 
         invoice.getClient().getName();
 
+        cacheGenerationService.bumpGeneration(INVOICES_CACHE, userId);
         log.info("Stopped recurring invoice: {} for user: {}", invoice.getInvoiceNumber(), userId);
         return invoiceMapper.toResponse(invoice);
     }
     @Override
-    @CacheEvict(value = "invoices", key = "#userId.toString()")
     @Transactional
     public InvoiceResponse approveCancellation(UUID invoiceId, UUID userId) {
         Invoice invoice = invoiceRepository.findByIdAndUserId(invoiceId, userId)
@@ -262,17 +337,19 @@ public class InvoiceServiceImpl implements InvoiceService {
             log.info("Stopped recurring for cancelled invoice: {}", invoice.getInvoiceNumber());
         }
 
+        InvoiceStatus oldStatus = invoice.getStatus();
         invoice.setStatus(InvoiceStatus.CANCELLED);
         invoice = invoiceRepository.save(invoice);
+        invoiceSummaryService.recordUpdated(invoice, oldStatus, invoice.getTotal());
 
         invoiceEmailService.sendCancellationApprovedEmail(invoice);
 
+        cacheGenerationService.bumpGeneration(INVOICES_CACHE, userId);
         log.info("Cancellation approved for invoice: {} by user: {}", invoice.getInvoiceNumber(), userId);
         return invoiceMapper.toResponse(invoice);
     }
 
     @Override
-    @CacheEvict(value = "invoices", key = "#userId.toString()")
     @Transactional
     public InvoiceResponse rejectCancellation(UUID invoiceId, UUID userId) {
         Invoice invoice = invoiceRepository.findByIdAndUserId(invoiceId, userId)
@@ -282,6 +359,7 @@ public class InvoiceServiceImpl implements InvoiceService {
             throw new BadRequestException("Invoice cancellation has not been requested");
         }
 
+        InvoiceStatus oldStatus = invoice.getStatus();
         LocalDate today = LocalDate.now();
         if (invoice.getDueDate().isBefore(today)) {
             invoice.setStatus(InvoiceStatus.OVERDUE);
@@ -292,6 +370,7 @@ public class InvoiceServiceImpl implements InvoiceService {
         }
 
         invoice = invoiceRepository.save(invoice);
+        invoiceSummaryService.recordUpdated(invoice, oldStatus, invoice.getTotal());
 
         invoiceEmailService.sendCancellationRejectedEmail(invoice);
 
@@ -299,12 +378,12 @@ public class InvoiceServiceImpl implements InvoiceService {
             invoiceEmailService.sendInvoiceActionEmail(invoice, "Cancellation Request Rejected - Invoice Still Due");
         }
 
+        cacheGenerationService.bumpGeneration(INVOICES_CACHE, userId);
         log.info("Cancellation rejected for invoice: {} by user: {}", invoice.getInvoiceNumber(), userId);
         return invoiceMapper.toResponse(invoice);
     }
 
     @Override
-    @CacheEvict(value = "invoices", key = "#userId.toString()")
     @Transactional
     public InvoiceResponse confirmPayment(UUID invoiceId, UUID userId) {
         Invoice invoice = invoiceRepository.findByIdAndUserId(invoiceId, userId)
@@ -314,17 +393,19 @@ public class InvoiceServiceImpl implements InvoiceService {
             throw new BadRequestException("Payment confirmation has not been received from client");
         }
 
+        InvoiceStatus oldStatus = invoice.getStatus();
         invoice.setStatus(InvoiceStatus.PAID);
         invoice = invoiceRepository.save(invoice);
+        invoiceSummaryService.recordUpdated(invoice, oldStatus, invoice.getTotal());
 
         invoiceEmailService.sendPaymentConfirmationEmail(invoice);
 
+        cacheGenerationService.bumpGeneration(INVOICES_CACHE, userId);
         log.info("Payment confirmed for invoice: {} by user: {}", invoice.getInvoiceNumber(), userId);
         return invoiceMapper.toResponse(invoice);
     }
 
     @Override
-    @CacheEvict(value = "invoices", key = "#userId.toString()")
     @Transactional
     public InvoiceResponse rejectPayment(UUID invoiceId, UUID userId) {
         Invoice invoice = invoiceRepository.findByIdAndUserId(invoiceId, userId)
@@ -334,6 +415,7 @@ public class InvoiceServiceImpl implements InvoiceService {
             throw new BadRequestException("Payment confirmation has not been received from client");
         }
 
+        InvoiceStatus oldStatus = invoice.getStatus();
         LocalDate today = LocalDate.now();
         if (invoice.getDueDate().isBefore(today)) {
             invoice.setStatus(InvoiceStatus.OVERDUE);
@@ -344,6 +426,7 @@ public class InvoiceServiceImpl implements InvoiceService {
         }
 
         invoice = invoiceRepository.save(invoice);
+        invoiceSummaryService.recordUpdated(invoice, oldStatus, invoice.getTotal());
 
         invoiceEmailService.sendPaymentRejectedEmail(invoice);
 
@@ -351,8 +434,66 @@ public class InvoiceServiceImpl implements InvoiceService {
             invoiceEmailService.sendInvoiceActionEmail(invoice, "Payment Request Rejected - Invoice Still Due");
         }
 
+        cacheGenerationService.bumpGeneration(INVOICES_CACHE, userId);
         log.info("Payment rejected for invoice: {} by user: {}", invoice.getInvoiceNumber(), userId);
         return invoiceMapper.toResponse(invoice);
     }
 
+    private List<InvoiceResponse> toResponsesInOrder(List<UUID> invoiceIds) {
+        Map<UUID, Invoice> invoicesById = invoiceIds.isEmpty()
+                ? Map.of()
+                : invoiceRepository.findAllWithClientAndItemsByIdIn(invoiceIds).stream()
+                        .collect(Collectors.toMap(Invoice::getId, Function.identity()));
+
+        return invoiceIds.stream()
+                .map(invoicesById::get)
+                .filter(Objects::nonNull)
+                .map(invoiceMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    private void addItems(Invoice invoice, List<InvoiceItemRequest> itemRequests, UUID userId) {
+        Map<UUID, Product> products = resolveProducts(itemRequests, userId);
+
+        List<InvoiceLineItem> lineItems = itemRequests.stream()
+                .map(itemRequest -> InvoiceLineItem.of(
+                        products.get(itemRequest.getProductId()), itemRequest.getQuantity()))
+                .collect(Collectors.toList());
+
+        invoiceLineItemStorage.replaceLineItems(invoice, lineItems);
+    }
+
+    private void mergeItems(Invoice invoice, List<InvoiceItemRequest> itemRequests, UUID userId) {
+        Map<UUID, Product> products = resolveProducts(itemRequests, userId);
+
+        List<InvoiceLineItem> lineItems = itemRequests.stream()
+                .map(itemRequest -> InvoiceLineItem.of(
+                                products.get(itemRequest.getProductId()), itemRequest.getQuantity())
+                        .toBuilder()
+                        .id(itemRequest.getId())
+                        .build())
+                .collect(Collectors.toList());
+
+        invoiceLineItemStorage.mergeLineItems(invoice, lineItems);
+    }
+
+    private Map<UUID, Product> resolveProducts(List<InvoiceItemRequest> itemRequests, UUID userId) {
+        Set<UUID> productIds = itemRequests.stream()
+                .map(InvoiceItemRequest::getProductId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<UUID, Product> products = productRepository.findAllByIdInAndUserId(productIds, userId).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<UUID> missingIds = productIds.stream()
+                .filter(id -> !products.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException("Products not found: " + missingIds);
+        }
+
+        return products;
+    }
+
 }
@@ -0,0 +1,74 @@
+package com.invoiceapp.invoice.application.implement;
+
+import com.invoiceapp.invoice.application.service.InvoiceSummaryService;
+import com.invoiceapp.invoice.domain.entity.Invoice;
+import com.invoiceapp.invoice.domain.entity.InvoiceStatusTotal;
+import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceStatusTotalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class InvoiceSummaryServiceImpl implements InvoiceSummaryService {
+
+    private final InvoiceStatusTotalRepository invoiceStatusTotalRepository;
+
+    @Override
+    public void recordCreated(Invoice invoice) {
+        applyDelta(invoice.getUser().getId(), invoice.getStatus(), 1, amountOf(invoice.getTotal()));
+    }
+
+    @Override
+    public void recordUpdated(Invoice invoice, InvoiceStatus oldStatus, BigDecimal oldTotal) {
+        UUID userId = invoice.getUser().getId();
+        BigDecimal previousAmount = amountOf(oldTotal);
+        BigDecimal currentAmount = amountOf(invoice.getTotal());
+
+        if (oldStatus == invoice.getStatus()) {
+            if (previousAmount.compareTo(currentAmount) != 0) {
+                applyDelta(userId, oldStatus, 0, currentAmount.subtract(previousAmount));
+            }
+            return;
+        }
+
+        applyDelta(userId, oldStatus, -1, previousAmount.negate());
+        applyDelta(userId, invoice.getStatus(), 1, currentAmount);
+    }
+
+    @Override
+    public void recordDeleted(Invoice invoice) {
+        applyDelta(invoice.getUser().getId(), invoice.getStatus(), -1, amountOf(invoice.getTotal()).negate());
+    }
+
+    @Override
+    public void recordBulkTransition(Collection<UUID> invoiceIds, InvoiceStatus fromStatus, InvoiceStatus toStatus) {
+        if (invoiceIds.isEmpty() || fromStatus == toStatus) {
+            return;
+        }
+        invoiceStatusTotalRepository.applyDeltaForInvoices(invoiceIds, fromStatus.name(), -1);
+        invoiceStatusTotalRepository.applyDeltaForInvoices(invoiceIds, toStatus.name(), 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InvoiceStatusTotal> getTotals(UUID userId) {
+        return invoiceStatusTotalRepository.findAllByIdUserId(userId);
+    }
+
+    private void applyDelta(UUID userId, InvoiceStatus status, long countDelta, BigDecimal amountDelta) {
+        invoiceStatusTotalRepository.applyDelta(userId, status.name(), countDelta, amountDelta);
+    }
+
+    private BigDecimal amountOf(BigDecimal total) {
+        return Objects.requireNonNullElse(total, BigDecimal.ZERO);
+    }
+}
@@ -4,17 +4,17 @@ import com.invoiceapp.auth.application.service.EmailService;
 import com.invoiceapp.auth.application.service.TokenService;
 import com.invoiceapp.auth.domain.entity.User;
 import com.invoiceapp.client.domain.entity.Client;
+import com.invoiceapp.invoice.application.service.InvoiceSummaryService;
 import com.invoiceapp.invoice.application.service.PublicInvoiceService;
 import com.invoiceapp.invoice.domain.entity.Invoice;
 import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
 import com.invoiceapp.invoice.infrastructure.repository.InvoiceRepository;
 import com.invoiceapp.common.exception.BadRequestException;
 import com.invoiceapp.common.exception.ResourceNotFoundException;
+import com.invoiceapp.common.service.CacheGenerationService;
 
 import com.invoiceapp.invoice.presentation.dto.response.PublicInvoiceResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,7 +29,8 @@ public class PublicInvoiceServiceImpl implements PublicInvoiceService {
     private final TokenService tokenService;
     private final InvoiceRepository invoiceRepository;
     private final EmailService emailService;
-    private final CacheManager cacheManager;
+    private final CacheGenerationService cacheGenerationService;
+    private final InvoiceSummaryService invoiceSummaryService;
 
     private Invoice findAndCheckInvoice(UUID invoiceId) {
         Invoice invoice = invoiceRepository.findById(invoiceId)
@@ -47,8 +48,10 @@ public class PublicInvoiceServiceImpl implements PublicInvoiceService {
         UUID invoiceId = tokenService.verifyPublicActionToken(token, "CANCEL");
 
         Invoice invoice = findAndCheckInvoice(invoiceId);
+        InvoiceStatus oldStatus = invoice.getStatus();
         invoice.setStatus(InvoiceStatus.CANCELLATION_REQUESTED);
         invoiceRepository.save(invoice);
+        invoiceSummaryService.recordUpdated(invoice, oldStatus, invoice.getTotal());
 
         evictInvoiceCacheForUser(invoice.getUser().getId());
 
@@ -63,8 +66,10 @@ public class PublicInvoiceServiceImpl implements PublicInvoiceService {
         UUID invoiceId = tokenService.verifyPublicActionToken(token, "PAY");
 
         Invoice invoice = findAndCheckInvoice(invoiceId);
+        InvoiceStatus oldStatus = invoice.getStatus();
         invoice.setStatus(InvoiceStatus.PAYMENT_PENDING);
         invoiceRepository.save(invoice);
+        invoiceSummaryService.recordUpdated(invoice, oldStatus, invoice.getTotal());
 
         User owner = invoice.getUser();
 
@@ -80,10 +85,7 @@ public class PublicInvoiceServiceImpl implements PublicInvoiceService {
     }
 
     private void evictInvoiceCacheForUser(UUID userId) {
-        Cache invoiceCache = cacheManager.getCache("invoices");
-        if (invoiceCache != null) {
-            invoiceCache.evict(userId.toString());
-        }
+        cacheGenerationService.bumpGeneration("invoices", userId);
     }
     @Override
     @Transactional(readOnly = true)
@@ -96,7 +98,7 @@ public class PublicInvoiceServiceImpl implements PublicInvoiceService {
         User owner = invoice.getUser();
         Client client = invoice.getClient();
 
-        List<PublicInvoiceResponse.PublicInvoiceItemResponse> itemResponses = invoice.getItems().stream()
+        List<PublicInvoiceResponse.PublicInvoiceItemResponse> itemResponses = invoice.currentLineItems().stream()
                 .map(item -> PublicInvoiceResponse.PublicInvoiceItemResponse.builder()
                         .productName(item.getProductName())
                         .productDescription(item.getProductDescription())
@@ -1,7 +1,7 @@
 package com.invoiceapp.invoice.application.mapper;
 
 import com.invoiceapp.invoice.domain.entity.Invoice;
-import com.invoiceapp.invoice.domain.entity.InvoiceItem;
+import com.invoiceapp.invoice.domain.entity.InvoiceLineItem;
 import com.invoiceapp.invoice.presentation.dto.response.InvoiceItemResponse;
 import com.invoiceapp.invoice.presentation.dto.response.InvoiceResponse;
 import org.springframework.stereotype.Component;
@@ -13,7 +13,7 @@ import java.util.stream.Collectors;
 public class InvoiceMapper {
 
     public InvoiceResponse toResponse(Invoice invoice) {
-        List<InvoiceItemResponse> itemResponses = invoice.getItems().stream()
+        List<InvoiceItemResponse> itemResponses = invoice.currentLineItems().stream()
                 .map(this::toItemResponse)
                 .collect(Collectors.toList());
 
@@ -40,10 +40,10 @@ public class InvoiceMapper {
                 .build();
     }
 
-    private InvoiceItemResponse toItemResponse(InvoiceItem item) {
+    private InvoiceItemResponse toItemResponse(InvoiceLineItem item) {
         return InvoiceItemResponse.builder()
                 .id(item.getId())
-                .productId(item.getProduct() != null ? item.getProduct().getId() : null)
+                .productId(item.getProductId())
                 .productName(item.getProductName())
                 .quantity(item.getQuantity())
                 .unitPrice(item.getUnitPrice())
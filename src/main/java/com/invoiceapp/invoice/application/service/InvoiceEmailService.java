@@ -2,6 +2,7 @@ package com.invoiceapp.invoice.application.service;
 
 import com.invoiceapp.auth.application.service.EmailService;
 import com.invoiceapp.auth.application.service.TokenService;
+import com.invoiceapp.client.domain.entity.Client;
 import com.invoiceapp.invoice.domain.entity.Invoice;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,13 +11,22 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class InvoiceEmailService {
 
+    private static final List<String> INVOICE_ACTIONS = List.of("VIEW", "PAY", "CANCEL");
+    private static final Locale CURRENCY_LOCALE = new Locale("in", "ID");
+    private static final ThreadLocal<NumberFormat> CURRENCY_FORMAT =
+            ThreadLocal.withInitial(() -> NumberFormat.getNumberInstance(CURRENCY_LOCALE));
+
     private final EmailService emailService;
     private final TokenService tokenService;
 
@@ -28,54 +38,99 @@ public class InvoiceEmailService {
     }
 
     public void sendInvoiceActionEmail(Invoice invoice, String subjectPrefix) {
-        String clientEmail = invoice.getClient().getEmail();
+        sendInvoiceActionEmails(List.of(invoice), subjectPrefix);
+    }
 
-        if (clientEmail == null || clientEmail.isBlank()) {
-            log.warn("Skipping {} email for Invoice {} - Client has no email",
-                    subjectPrefix, invoice.getInvoiceNumber());
+    public void sendInvoiceActionEmails(List<Invoice> invoices, String subjectPrefix) {
+        List<Invoice> recipients = new ArrayList<>(invoices.size());
+
+        for (Invoice invoice : invoices) {
+            Client client = invoice.getClient();
+
+            if (client == null || client.getEmail() == null || client.getEmail().isBlank()) {
+                log.warn("Skipping {} email for Invoice {} - Client has no email",
+                        subjectPrefix, invoice.getInvoiceNumber());
+                continue;
+            }
+
+            recipients.add(invoice);
+        }
+
+        if (recipients.isEmpty()) {
             return;
         }
 
-        try {
-            String viewToken = tokenService.generatePublicActionToken(invoice.getId(), "VIEW");
-            String payToken = tokenService.generatePublicActionToken(invoice.getId(), "PAY");
-            String cancelToken = tokenService.generatePublicActionToken(invoice.getId(), "CANCEL");
-
-            String invoiceViewLink = String.format("%s/invoices/view?token=%s",
-                    frontendUrl, viewToken);
-            String paymentLink = String.format("%s/invoices/pay?token=%s",
-                    frontendUrl, payToken);
-            String cancelLink = String.format("%s/invoices/cancel-request?token=%s",
-                    frontendUrl, cancelToken);
-
-            String formattedTotal = formatCurrency(invoice.getTotal());
-
-            emailService.sendInvoiceEmailWithActions(
-                    clientEmail,
-                    invoice.getClient().getName(),
-                    invoice.getInvoiceNumber(),
-                    formattedTotal,
-                    invoice.getDueDate().toString(),
-                    invoiceViewLink,
-                    paymentLink,
-                    cancelLink
-            );
-
-            log.info("{} email sent for Invoice {} to {}",
-                    subjectPrefix, invoice.getInvoiceNumber(), clientEmail);
+        Map<UUID, Map<String, String>> tokens = generateActionTokens(recipients, subjectPrefix);
+        List<EmailService.InvoiceActionEmail> emails = new ArrayList<>(recipients.size());
+
+        for (Invoice invoice : recipients) {
+            try {
+                Map<String, String> invoiceTokens = tokens.get(invoice.getId());
+                if (invoiceTokens == null) {
+                    invoiceTokens = tokenService.generatePublicActionTokens(List.of(invoice.getId()), INVOICE_ACTIONS)
+                            .get(invoice.getId());
+                }
+                emails.add(buildInvoiceActionEmail(invoice, invoiceTokens));
+            } catch (Exception e) {
+                log.error("Failed to prepare {} email for Invoice {}: {}",
+                        subjectPrefix, invoice.getInvoiceNumber(), e.getMessage());
+            }
+        }
 
+        if (!emails.isEmpty()) {
+            emailService.sendInvoiceEmailsWithActions(emails);
+        }
+    }
+
+    private Map<UUID, Map<String, String>> generateActionTokens(List<Invoice> invoices, String subjectPrefix) {
+        try {
+            return tokenService.generatePublicActionTokens(
+                    invoices.stream().map(Invoice::getId).toList(), INVOICE_ACTIONS);
         } catch (Exception e) {
-            log.error("Failed to send {} email for Invoice {}: {}",
-                    subjectPrefix, invoice.getInvoiceNumber(), e.getMessage());
+            log.warn("Batch token generation for {} emails failed, retrying per invoice: {}",
+                    subjectPrefix, e.getMessage());
+            return Map.of();
         }
     }
 
+    private EmailService.InvoiceActionEmail buildInvoiceActionEmail(Invoice invoice, Map<String, String> tokens) {
+        String viewToken = tokens.get("VIEW");
+        String payToken = tokens.get("PAY");
+        String cancelToken = tokens.get("CANCEL");
+
+        String invoiceViewLink = String.format("%s/invoices/view?token=%s",
+                frontendUrl, viewToken);
+        String paymentLink = String.format("%s/invoices/pay?token=%s",
+                frontendUrl, payToken);
+        String cancelLink = String.format("%s/invoices/cancel-request?token=%s",
+                frontendUrl, cancelToken);
+
+        return new EmailService.InvoiceActionEmail(
+                invoice.getClient().getEmail(),
+                invoice.getClient().getName(),
+                invoice.getInvoiceNumber(),
+                formatCurrency(invoice.getTotal()),
+                invoice.getDueDate().toString(),
+                invoiceViewLink,
+                paymentLink,
+                cancelLink
+        );
+    }
+
     public void sendDueReminderEmail(Invoice invoice) {
-        sendInvoiceActionEmail(invoice, "Reminder: Invoice DUE Today");
+        sendDueReminderEmails(List.of(invoice));
+    }
+
+    public void sendDueReminderEmails(List<Invoice> invoices) {
+        sendInvoiceActionEmails(invoices, "Reminder: Invoice DUE Today");
     }
 
     public void sendOverdueReminderEmail(Invoice invoice) {
-        sendInvoiceActionEmail(invoice, "Urgent: Invoice OVERDUE");
+        sendOverdueReminderEmails(List.of(invoice));
+    }
+
+    public void sendOverdueReminderEmails(List<Invoice> invoices) {
+        sendInvoiceActionEmails(invoices, "Urgent: Invoice OVERDUE");
     }
 
     public void sendPaymentConfirmationEmail(Invoice invoice) {
@@ -87,26 +142,20 @@ public class InvoiceEmailService {
             return;
         }
 
-        try {
-            String invoiceViewLink = String.format("%s/invoices/view/%s",
-                    frontendUrl, invoice.getInvoiceNumber());
-            String formattedTotal = formatCurrency(invoice.getTotal());
-
-            emailService.sendPaymentConfirmationEmail(
-                    clientEmail,
-                    invoice.getClient().getName(),
-                    invoice.getInvoiceNumber(),
-                    formattedTotal,
-                    invoiceViewLink
-            );
+        String invoiceViewLink = String.format("%s/invoices/view/%s",
+                frontendUrl, invoice.getInvoiceNumber());
+        String formattedTotal = formatCurrency(invoice.getTotal());
 
-            log.info("Payment confirmation sent for Invoice {} to {}",
-                    invoice.getInvoiceNumber(), clientEmail);
+        emailService.sendPaymentConfirmationEmail(
+                clientEmail,
+                invoice.getClient().getName(),
+                invoice.getInvoiceNumber(),
+                formattedTotal,
+                invoiceViewLink
+        );
 
-        } catch (Exception e) {
-            log.error("Failed to send payment confirmation for Invoice {}: {}",
-                    invoice.getInvoiceNumber(), e.getMessage());
-        }
+        log.info("Payment confirmation sent for Invoice {} to {}",
+                invoice.getInvoiceNumber(), clientEmail);
     }
 
     public void sendPaymentUrgentWarningToClient(Invoice invoice) {
@@ -118,47 +167,46 @@ public class InvoiceEmailService {
             return;
         }
 
-        try {
-            String payToken = tokenService.generatePublicActionToken(invoice.getId(), "PAY");
-            String paymentLink = String.format("%s/invoices/pay?token=%s", frontendUrl, payToken);
-            String invoiceViewLink = String.format("%s/invoices/view/%s",
-                    frontendUrl, invoice.getInvoiceNumber());
-
-
-            String subject = "⚠️ URGENT: Payment Required - Recurring Will Stop";
-            String message = String.format(
-                    "Dear %s,\n\n" +
-                            "⚠️ URGENT ACTION REQUIRED\n\n" +
-                            "Your recurring invoice #%s is OVERDUE and unpaid.\n\n" +
-                            "Amount Due: Rp %s\n" +
-                            "Due Date: %s\n" +
-                            "Status: %s\n\n" +
-                            "⏰ You have until TOMORROW to make payment.\n\n" +
-                            "If payment is not received by tomorrow, your recurring invoice service will be automatically stopped " +
-                            "and no future invoices will be generated.\n\n" +
-                            "Pay Now: %s\n" +
-                            "View Invoice: %s\n\n" +
-                            "Please contact us immediately if you have any questions.\n\n" +
-                            "Thank you,\n" +
-                            "%s",
-                    invoice.getClient().getName(),
-                    invoice.getInvoiceNumber(),
-                    formatCurrency(invoice.getTotal()),
-                    invoice.getDueDate(),
-                    invoice.getStatus(),
-                    paymentLink,
-                    invoiceViewLink,
-                    invoice.getUser().getName() != null ? invoice.getUser().getName() : "Invoice Management"
-            );
-
-            emailService.sendSimpleEmail(clientEmail, subject, message);
-
-            log.info("Sent urgent payment warning to client {} for invoice {}",
-                    clientEmail, invoice.getInvoiceNumber());
-
-        } catch (Exception e) {
-            log.error("Failed to send urgent warning to client: {}", e.getMessage());
+        String payToken = generatePayToken(invoice);
+        if (payToken == null) {
+            return;
         }
+
+        String paymentLink = String.format("%s/invoices/pay?token=%s", frontendUrl, payToken);
+        String invoiceViewLink = String.format("%s/invoices/view/%s",
+                frontendUrl, invoice.getInvoiceNumber());
+
+
+        String subject = "⚠️ URGENT: Payment Required - Recurring Will Stop";
+        String message = String.format(
+                "Dear %s,\n\n" +
+                        "⚠️ URGENT ACTION REQUIRED\n\n" +
+                        "Your recurring invoice #%s is OVERDUE and unpaid.\n\n" +
+                        "Amount Due: Rp %s\n" +
+                        "Due Date: %s\n" +
+                        "Status: %s\n\n" +
+                        "⏰ You have until TOMORROW to make payment.\n\n" +
+                        "If payment is not received by tomorrow, your recurring invoice service will be automatically stopped " +
+                        "and no future invoices will be generated.\n\n" +
+                        "Pay Now: %s\n" +
+                        "View Invoice: %s\n\n" +
+                        "Please contact us immediately if you have any questions.\n\n" +
+                        "Thank you,\n" +
+                        "%s",
+                invoice.getClient().getName(),
+                invoice.getInvoiceNumber(),
+                formatCurrency(invoice.getTotal()),
+                invoice.getDueDate(),
+                invoice.getStatus(),
+                paymentLink,
+                invoiceViewLink,
+                invoice.getUser().getName() != null ? invoice.getUser().getName() : "Invoice Management"
+        );
+
+        emailService.sendSimpleEmail(clientEmail, subject, message);
+
+        log.info("Sent urgent payment warning to client {} for invoice {}",
+                clientEmail, invoice.getInvoiceNumber());
     }
 
     public void sendRecurringWarningToUser(Invoice invoice) {
@@ -168,33 +216,28 @@ public class InvoiceEmailService {
             return;
         }
 
-        try {
-            String subject = "[WARNING] Recurring Payment Not Received - Invoice #" + invoice.getInvoiceNumber();
-            String message = String.format(
-                    "⚠️ PAYMENT WARNING\n\n" +
-                            "Client %s has not paid Invoice #%s.\n\n" +
-                            "Details:\n" +
-                            "- Amount: Rp %s\n" +
-                            "- Due Date: %s\n" +
-                            "- Status: %s\n" +
-                            "- Next Generation Date: TODAY\n\n" +
-                            "Action Taken:\n" +
-                            "✓ Urgent warning email sent to client\n" +
-                            "✓ Recurring generation postponed for 1 day\n\n" +
-                            "If payment is not received by tomorrow, recurring will be automatically stopped.\n\n" +
-                            "You may want to contact the client directly.",
-                    invoice.getClient().getName(),
-                    invoice.getInvoiceNumber(),
-                    formatCurrency(invoice.getTotal()),
-                    invoice.getDueDate(),
-                    invoice.getStatus()
-            );
-
-            emailService.sendSimpleEmail(userEmail, subject, message);
-
-        } catch (Exception e) {
-            log.error("Failed to send warning to user: {}", e.getMessage());
-        }
+        String subject = "[WARNING] Recurring Payment Not Received - Invoice #" + invoice.getInvoiceNumber();
+        String message = String.format(
+                "⚠️ PAYMENT WARNING\n\n" +
+                        "Client %s has not paid Invoice #%s.\n\n" +
+                        "Details:\n" +
+                        "- Amount: Rp %s\n" +
+                        "- Due Date: %s\n" +
+                        "- Status: %s\n" +
+                        "- Next Generation Date: TODAY\n\n" +
+                        "Action Taken:\n" +
+                        "✓ Urgent warning email sent to client\n" +
+                        "✓ Recurring generation postponed for 1 day\n\n" +
+                        "If payment is not received by tomorrow, recurring will be automatically stopped.\n\n" +
+                        "You may want to contact the client directly.",
+                invoice.getClient().getName(),
+                invoice.getInvoiceNumber(),
+                formatCurrency(invoice.getTotal()),
+                invoice.getDueDate(),
+                invoice.getStatus()
+        );
+
+        emailService.sendSimpleEmail(userEmail, subject, message);
     }
 
 
@@ -205,29 +248,24 @@ public class InvoiceEmailService {
             return;
         }
 
-        try {
-            String subject = "[RECURRING STOPPED] Invoice #" + invoice.getInvoiceNumber();
-            String message = String.format(
-                    "🛑 RECURRING STOPPED\n\n" +
-                            "Recurring invoice generation has been stopped for:\n\n" +
-                            "Invoice #%s\n" +
-                            "Client: %s\n" +
-                            "Amount: Rp %s\n" +
-                            "Status: %s\n\n" +
-                            "Reason: Payment not received after grace period.\n\n" +
-                            "No future invoices will be generated for this recurring series.\n\n" +
-                            "You can manually restart recurring after receiving payment.",
-                    invoice.getInvoiceNumber(),
-                    invoice.getClient().getName(),
-                    formatCurrency(invoice.getTotal()),
-                    invoice.getStatus()
-            );
-
-            emailService.sendSimpleEmail(userEmail, subject, message);
-
-        } catch (Exception e) {
-            log.error("Failed to send stopped notification to user: {}", e.getMessage());
-        }
+        String subject = "[RECURRING STOPPED] Invoice #" + invoice.getInvoiceNumber();
+        String message = String.format(
+                "🛑 RECURRING STOPPED\n\n" +
+                        "Recurring invoice generation has been stopped for:\n\n" +
+                        "Invoice #%s\n" +
+                        "Client: %s\n" +
+                        "Amount: Rp %s\n" +
+                        "Status: %s\n\n" +
+                        "Reason: Payment not received after grace period.\n\n" +
+                        "No future invoices will be generated for this recurring series.\n\n" +
+                        "You can manually restart recurring after receiving payment.",
+                invoice.getInvoiceNumber(),
+                invoice.getClient().getName(),
+                formatCurrency(invoice.getTotal()),
+                invoice.getStatus()
+        );
+
+        emailService.sendSimpleEmail(userEmail, subject, message);
     }
 
     public void sendRecurringStoppedToClient(Invoice invoice) {
@@ -237,32 +275,27 @@ public class InvoiceEmailService {
             return;
         }
 
-        try {
-            String subject = "🛑 Recurring Service Stopped - Invoice #" + invoice.getInvoiceNumber();
-            String message = String.format(
-                    "Dear %s,\n\n" +
-                            "Your recurring invoice service has been stopped due to non-payment.\n\n" +
-                            "Unpaid Invoice: #%s\n" +
-                            "Amount: Rp %s\n" +
-                            "Status: %s\n\n" +
-                            "No future invoices will be generated until this is resolved.\n\n" +
-                            "To restart service:\n" +
-                            "1. Pay the outstanding invoice\n" +
-                            "2. Contact us to reactivate recurring invoices\n\n" +
-                            "Thank you,\n" +
-                            "%s",
-                    invoice.getClient().getName(),
-                    invoice.getInvoiceNumber(),
-                    formatCurrency(invoice.getTotal()),
-                    invoice.getStatus(),
-                    invoice.getUser().getName() != null ? invoice.getUser().getName() : "Invoice Management"
-            );
-
-            emailService.sendSimpleEmail(clientEmail, subject, message);
-
-        } catch (Exception e) {
-            log.error("Failed to send stopped notification to client: {}", e.getMessage());
-        }
+        String subject = "🛑 Recurring Service Stopped - Invoice #" + invoice.getInvoiceNumber();
+        String message = String.format(
+                "Dear %s,\n\n" +
+                        "Your recurring invoice service has been stopped due to non-payment.\n\n" +
+                        "Unpaid Invoice: #%s\n" +
+                        "Amount: Rp %s\n" +
+                        "Status: %s\n\n" +
+                        "No future invoices will be generated until this is resolved.\n\n" +
+                        "To restart service:\n" +
+                        "1. Pay the outstanding invoice\n" +
+                        "2. Contact us to reactivate recurring invoices\n\n" +
+                        "Thank you,\n" +
+                        "%s",
+                invoice.getClient().getName(),
+                invoice.getInvoiceNumber(),
+                formatCurrency(invoice.getTotal()),
+                invoice.getStatus(),
+                invoice.getUser().getName() != null ? invoice.getUser().getName() : "Invoice Management"
+        );
+
+        emailService.sendSimpleEmail(clientEmail, subject, message);
     }
     public void sendCancellationApprovedEmail(Invoice invoice) {
         String clientEmail = invoice.getClient().getEmail();
@@ -273,35 +306,29 @@ public class InvoiceEmailService {
             return;
         }
 
-        try {
-            String subject = "✓ Cancellation Approved - Invoice #" + invoice.getInvoiceNumber();
-            String message = String.format(
-                    "Dear %s,\n\n" +
-                            "Your cancellation request for Invoice #%s has been approved.\n\n" +
-                            "The invoice has been cancelled and no further action is required from you.\n\n" +
-                            "Invoice Details:\n" +
-                            "- Invoice Number: %s\n" +
-                            "- Amount: Rp %s\n" +
-                            "- Status: CANCELLED\n\n" +
-                            "If you have any questions, please contact us.\n\n" +
-                            "Thank you,\n" +
-                            "%s",
-                    invoice.getClient().getName(),
-                    invoice.getInvoiceNumber(),
-                    invoice.getInvoiceNumber(),
-                    formatCurrency(invoice.getTotal()),
-                    invoice.getUser().getName() != null ? invoice.getUser().getName() : "Invoice Management"
-            );
-
-            emailService.sendSimpleEmail(clientEmail, subject, message);
-
-            log.info("Cancellation approved email sent for Invoice {} to {}",
-                    invoice.getInvoiceNumber(), clientEmail);
-
-        } catch (Exception e) {
-            log.error("Failed to send cancellation approved email for Invoice {}: {}",
-                    invoice.getInvoiceNumber(), e.getMessage());
-        }
+        String subject = "✓ Cancellation Approved - Invoice #" + invoice.getInvoiceNumber();
+        String message = String.format(
+                "Dear %s,\n\n" +
+                        "Your cancellation request for Invoice #%s has been approved.\n\n" +
+                        "The invoice has been cancelled and no further action is required from you.\n\n" +
+                        "Invoice Details:\n" +
+                        "- Invoice Number: %s\n" +
+                        "- Amount: Rp %s\n" +
+                        "- Status: CANCELLED\n\n" +
+                        "If you have any questions, please contact us.\n\n" +
+                        "Thank you,\n" +
+                        "%s",
+                invoice.getClient().getName(),
+                invoice.getInvoiceNumber(),
+                invoice.getInvoiceNumber(),
+                formatCurrency(invoice.getTotal()),
+                invoice.getUser().getName() != null ? invoice.getUser().getName() : "Invoice Management"
+        );
+
+        emailService.sendSimpleEmail(clientEmail, subject, message);
+
+        log.info("Cancellation approved email sent for Invoice {} to {}",
+                invoice.getInvoiceNumber(), clientEmail);
     }
 
     public void sendCancellationRejectedEmail(Invoice invoice) {
@@ -313,38 +340,32 @@ public class InvoiceEmailService {
             return;
         }
 
-        try {
-            String subject = "✗ Cancellation Request Rejected - Invoice #" + invoice.getInvoiceNumber();
-            String message = String.format(
-                    "Dear %s,\n\n" +
-                            "Your cancellation request for Invoice #%s has been rejected.\n\n" +
-                            "The invoice remains active and payment is still due.\n\n" +
-                            "Invoice Details:\n" +
-                            "- Invoice Number: %s\n" +
-                            "- Amount Due: Rp %s\n" +
-                            "- Due Date: %s\n" +
-                            "- Status: %s\n\n" +
-                            "If you have any questions or concerns, please contact us.\n\n" +
-                            "Thank you,\n" +
-                            "%s",
-                    invoice.getClient().getName(),
-                    invoice.getInvoiceNumber(),
-                    invoice.getInvoiceNumber(),
-                    formatCurrency(invoice.getTotal()),
-                    invoice.getDueDate(),
-                    invoice.getStatus(),
-                    invoice.getUser().getName() != null ? invoice.getUser().getName() : "Invoice Management"
-            );
-
-            emailService.sendSimpleEmail(clientEmail, subject, message);
-
-            log.info("Cancellation rejected email sent for Invoice {} to {}",
-                    invoice.getInvoiceNumber(), clientEmail);
-
-        } catch (Exception e) {
-            log.error("Failed to send cancellation rejected email for Invoice {}: {}",
-                    invoice.getInvoiceNumber(), e.getMessage());
-        }
+        String subject = "✗ Cancellation Request Rejected - Invoice #" + invoice.getInvoiceNumber();
+        String message = String.format(
+                "Dear %s,\n\n" +
+                        "Your cancellation request for Invoice #%s has been rejected.\n\n" +
+                        "The invoice remains active and payment is still due.\n\n" +
+                        "Invoice Details:\n" +
+                        "- Invoice Number: %s\n" +
+                        "- Amount Due: Rp %s\n" +
+                        "- Due Date: %s\n" +
+                        "- Status: %s\n\n" +
+                        "If you have any questions or concerns, please contact us.\n\n" +
+                        "Thank you,\n" +
+                        "%s",
+                invoice.getClient().getName(),
+                invoice.getInvoiceNumber(),
+                invoice.getInvoiceNumber(),
+                formatCurrency(invoice.getTotal()),
+                invoice.getDueDate(),
+                invoice.getStatus(),
+                invoice.getUser().getName() != null ? invoice.getUser().getName() : "Invoice Management"
+        );
+
+        emailService.sendSimpleEmail(clientEmail, subject, message);
+
+        log.info("Cancellation rejected email sent for Invoice {} to {}",
+                invoice.getInvoiceNumber(), clientEmail);
     }
 
     public void sendPaymentRejectedEmail(Invoice invoice) {
@@ -356,50 +377,61 @@ public class InvoiceEmailService {
             return;
         }
 
-        try {
-            String payToken = tokenService.generatePublicActionToken(invoice.getId(), "PAY");
-            String paymentLink = String.format("%s/invoices/pay?token=%s", frontendUrl, payToken);
-
-            String subject = "✗ Payment Not Verified - Invoice #" + invoice.getInvoiceNumber();
-            String message = String.format(
-                    "Dear %s,\n\n" +
-                            "We were unable to verify your payment for Invoice #%s.\n\n" +
-                            "Reason: Payment not received in our account\n\n" +
-                            "Invoice Details:\n" +
-                            "- Invoice Number: %s\n" +
-                            "- Amount Due: Rp %s\n" +
-                            "- Due Date: %s\n" +
-                            "- Status: %s\n\n" +
-                            "Please check your payment details and try again:\n" +
-                            "%s\n\n" +
-                            "If you believe you have already paid, please contact us with your payment proof.\n\n" +
-                            "Thank you,\n" +
-                            "%s",
-                    invoice.getClient().getName(),
-                    invoice.getInvoiceNumber(),
-                    invoice.getInvoiceNumber(),
-                    formatCurrency(invoice.getTotal()),
-                    invoice.getDueDate(),
-                    invoice.getStatus(),
-                    paymentLink,
-                    invoice.getUser().getName() != null ? invoice.getUser().getName() : "Invoice Management"
-            );
-
-            emailService.sendSimpleEmail(clientEmail, subject, message);
-
-            log.info("Payment rejected email sent for Invoice {} to {}",
-                    invoice.getInvoiceNumber(), clientEmail);
+        String payToken = generatePayToken(invoice);
+        if (payToken == null) {
+            return;
+        }
 
+        String paymentLink = String.format("%s/invoices/pay?token=%s", frontendUrl, payToken);
+
+        String subject = "✗ Payment Not Verified - Invoice #" + invoice.getInvoiceNumber();
+        String message = String.format(
+                "Dear %s,\n\n" +
+                        "We were unable to verify your payment for Invoice #%s.\n\n" +
+                        "Reason: Payment not received in our account\n\n" +
+                        "Invoice Details:\n" +
+                        "- Invoice Number: %s\n" +
+                        "- Amount Due: Rp %s\n" +
+                        "- Due Date: %s\n" +
+                        "- Status: %s\n\n" +
+                        "Please check your payment details and try again:\n" +
+                        "%s\n\n" +
+                        "If you believe you have already paid, please contact us with your payment proof.\n\n" +
+                        "Thank you,\n" +
+                        "%s",
+                invoice.getClient().getName(),
+                invoice.getInvoiceNumber(),
+                invoice.getInvoiceNumber(),
+                formatCurrency(invoice.getTotal()),
+                invoice.getDueDate(),
+                invoice.getStatus(),
+                paymentLink,
+                invoice.getUser().getName() != null ? invoice.getUser().getName() : "Invoice Management"
+        );
+
+        emailService.sendSimpleEmail(clientEmail, subject, message);
+
+        log.info("Payment rejected email sent for Invoice {} to {}",
+                invoice.getInvoiceNumber(), clientEmail);
+    }
+
+    /**
+     * Token generation goes to Redis and may fail without affecting the business transaction, so it is
+     * the only step that is allowed to skip an email. Enqueueing joins the caller's transaction and
+     * its failures propagate.
+     */
+    private String generatePayToken(Invoice invoice) {
+        try {
+            return tokenService.generatePublicActionToken(invoice.getId(), "PAY");
         } catch (Exception e) {
-            log.error("Failed to send payment rejected email for Invoice {}: {}",
+            log.error("Failed to generate payment token for Invoice {}: {}",
                     invoice.getInvoiceNumber(), e.getMessage());
+            return null;
         }
     }
 
     private String formatCurrency(BigDecimal amount) {
-        Locale indonesia = new Locale("in", "ID");
-        NumberFormat formatter = NumberFormat.getNumberInstance(indonesia);
-        return formatter.format(amount.longValue());
+        return CURRENCY_FORMAT.get().format(amount.longValue());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.invoiceapp.invoice.application.service;
+
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves {@code invoice_items} rows into the invoices' {@code line_items} JSONB column in small
+ * batches once the JSONB storage mode is switched on. Invoices that are edited before their batch
+ * runs are migrated by the write itself.
+ */
+@Service
+@ConditionalOnProperty(name = "app.invoice.line-item-storage", havingValue = "jsonb")
+@RequiredArgsConstructor
+@Slf4j
+public class InvoiceLineItemMigrationService {
+
+    private final InvoiceRepository invoiceRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.invoice.line-item-migration.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.invoice.line-item-migration.interval:PT1M}")
+    public void migrateLineItems() {
+        int migrated = 0;
+
+        while (true) {
+            List<UUID> batch = transactionTemplate.execute(status ->
+                    invoiceRepository.migrateLineItemsToJsonb(batchSize));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            migrated += batch.size();
+        }
+
+        if (migrated > 0) {
+            log.info("Migrated line items of {} invoices to JSONB storage", migrated);
+        }
+    }
+}
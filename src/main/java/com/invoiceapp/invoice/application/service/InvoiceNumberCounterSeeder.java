@@ -0,0 +1,43 @@
+package com.invoiceapp.invoice.application.service;
+
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceNumberCounterRepository;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceUserCodeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.invoice-number.allocator", havingValue = "postgres")
+public class InvoiceNumberCounterSeeder {
+
+    private final InvoiceNumberCounterRepository counterRepository;
+    private final InvoiceUserCodeRepository userCodeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void seedIfEmpty() {
+        if (counterRepository.count() == 0 && userCodeRepository.count() == 0) {
+            log.info("Invoice number counters are empty, seeding them from existing invoices...");
+            seed();
+        }
+    }
+
+    public SeedReport seed() {
+        SeedReport report = transactionTemplate.execute(status -> {
+            int userCodes = userCodeRepository.seedFromInvoices();
+            userCodeRepository.alignCodeSequence();
+            int counters = counterRepository.seedFromInvoices();
+            return new SeedReport(userCodes, counters);
+        });
+
+        log.info("Invoice number seeding finished: {} user codes, {} counters", report.userCodes(), report.counters());
+        return report;
+    }
+
+    public record SeedReport(int userCodes, int counters) {}
+}
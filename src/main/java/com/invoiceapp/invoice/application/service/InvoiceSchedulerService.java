@@ -1,22 +1,36 @@
 package com.invoiceapp.invoice.application.service;
 
+import com.invoiceapp.common.persistence.UuidV7Generator;
+import com.invoiceapp.common.service.CacheGenerationService;
+import com.invoiceapp.invoice.application.helper.InvoiceLineItemStorage;
 import com.invoiceapp.invoice.application.helper.RecurringInvoiceHelper;
 import com.invoiceapp.invoice.domain.entity.Invoice;
-import com.invoiceapp.invoice.domain.entity.InvoiceItem;
 import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
 import com.invoiceapp.invoice.infrastructure.repository.InvoiceRepository;
 import com.invoiceapp.invoice.infrastructure.util.InvoiceNumberGenerator;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.CacheManager; // Import CacheManager
-import org.springframework.cache.Cache; // Import Cache
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,118 +41,222 @@ public class InvoiceSchedulerService {
     private final InvoiceNumberGenerator invoiceNumberGenerator;
     private final InvoiceEmailService invoiceEmailService;
     private final RecurringInvoiceHelper recurringInvoiceHelper;
-    private final CacheManager cacheManager;
+    private final InvoiceLineItemStorage invoiceLineItemStorage;
+    private final CacheGenerationService cacheGenerationService;
+    private final TransactionTemplate transactionTemplate;
+    private final InvoiceSummaryService invoiceSummaryService;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+
+    private static final UUID KEYSET_START = new UUID(0L, 0L);
+
+    @Value("${app.scheduler.status-chunk-size:500}")
+    private int statusChunkSize;
+
+    @Value("${app.scheduler.recurring-chunk-size:100}")
+    private int recurringChunkSize;
+
+    @Value("${app.scheduler.recurring-workers:4}")
+    private int recurringWorkers;
 
     @Scheduled(cron = "0 0 1 * * *")
-    @Transactional
     public void generateRecurringInvoices() {
         LocalDate today = LocalDate.now();
 
         log.info("Starting recurring invoice generation...");
 
-        List<Invoice> invoicesToGenerate = invoiceRepository
-                .findByIsRecurringTrueAndNextGenerationDateLessThanEqual(today);
+        List<RecurringChunkReport> reports = runRecurringGeneration(today);
 
-        int generated = 0;
-        int warned = 0;
-        int stoppedUnpaid = 0;
+        int generated = reports.stream().mapToInt(RecurringChunkReport::generated).sum();
+        int warned = reports.stream().mapToInt(RecurringChunkReport::warned).sum();
+        int stoppedUnpaid = reports.stream().mapToInt(RecurringChunkReport::stopped).sum();
+        int failed = reports.stream().mapToInt(RecurringChunkReport::failed).sum();
 
-        for (Invoice source : invoicesToGenerate) {
-            try {
-                InvoiceStatus status = source.getStatus();
-                LocalDate nextGenDate = source.getNextGenerationDate();
+        log.info("Recurring generation completed. Chunks: {}, Generated: {}, Warned: {}, Stopped: {}, Failed: {}",
+                reports.size(), generated, warned, stoppedUnpaid, failed);
 
-                if (status == InvoiceStatus.PAID) {
-                    LocalDate scheduledDate = nextGenDate;
-                    Invoice newInvoice = createRecurringInvoice(source, scheduledDate);
+        if (generated > 0 || stoppedUnpaid > 0) {
+            clearInvoicesCache();
+        }
+    }
 
-                    invoiceRepository.save(newInvoice);
-                    generated++;
+    public List<RecurringChunkReport> runRecurringGeneration(LocalDate today) {
+        LocalDateTime runStartedAt = LocalDateTime.now();
+        List<Future<RecurringChunkReport>> chunks = new ArrayList<>();
 
-                    if (newInvoice.getStatus() == InvoiceStatus.SENT) {
-                        invoiceEmailService.sendInvoiceActionEmail(newInvoice, "Recurring Invoice Generated");
-                    }
+        ThreadFactory threadFactory = Thread.ofPlatform().name("recurring-invoice-", 1).factory();
+        try (ExecutorService workers = Executors.newFixedThreadPool(recurringWorkers, threadFactory)) {
+            UUID afterId = KEYSET_START;
 
-                    source.setIsRecurring(false);
-                    invoiceRepository.save(source);
+            while (true) {
+                List<UUID> invoiceIds = invoiceRepository.findRecurringIdsDueAfter(
+                        today, runStartedAt, afterId, recurringChunkSize);
 
-                    log.info("Generated recurring invoice {} from {} (scheduled: {})",
-                            newInvoice.getInvoiceNumber(),
-                            source.getInvoiceNumber(),
-                            scheduledDate);
-                    continue;
+                if (invoiceIds.isEmpty()) {
+                    break;
                 }
 
-                if (nextGenDate.isEqual(today)) {
-                    invoiceEmailService.sendPaymentUrgentWarningToClient(source);
-                    invoiceEmailService.sendRecurringWarningToUser(source);
-                    warned++;
+                int chunkNumber = chunks.size() + 1;
+                chunks.add(workers.submit(() -> processRecurringChunk(chunkNumber, invoiceIds, today)));
 
-                    log.warn("Grace period for invoice {} - client warned, checking again tomorrow",
-                            source.getInvoiceNumber());
-                    continue;
+                if (invoiceIds.size() < recurringChunkSize) {
+                    break;
                 }
+                afterId = invoiceIds.get(invoiceIds.size() - 1);
+            }
+        }
 
-                if (nextGenDate.isBefore(today)) {
-                    source.setIsRecurring(false);
-                    invoiceRepository.save(source);
-                    stoppedUnpaid++;
+        return chunks.stream()
+                .map(Future::resultNow)
+                .toList();
+    }
+
+    private RecurringChunkReport processRecurringChunk(int chunkNumber, List<UUID> invoiceIds, LocalDate today) {
+        try {
+            RecurringChunkReport report = transactionTemplate.execute(
+                    status -> generateChunk(chunkNumber, invoiceIds, today));
 
-                    invoiceEmailService.sendRecurringStoppedToUser(source);
-                    invoiceEmailService.sendRecurringStoppedToClient(source);
+            log.info("Recurring chunk {} completed. Generated: {}, Warned: {}, Stopped: {}, Failed: {}",
+                    chunkNumber, report.generated(), report.warned(), report.stopped(), report.failed());
+            return report;
 
-                    log.warn("Stopped recurring for invoice {} - status is {} and grace period expired",
-                            source.getInvoiceNumber(), status);
-                    continue;
+        } catch (Exception e) {
+            log.error("Failed to process recurring chunk {} ({} invoices): {}",
+                    chunkNumber, invoiceIds.size(), e.getMessage(), e);
+            return new RecurringChunkReport(chunkNumber, 0, 0, 0, invoiceIds.size());
+        }
+    }
+
+    /**
+     * Runs the chunk in one transaction with a savepoint per invoice. Each invoice is flushed before
+     * its savepoint is released, so a failure (for example a duplicate invoice number) rolls back only
+     * that invoice and the chunk report matches what is committed.
+     */
+    private RecurringChunkReport generateChunk(int chunkNumber, List<UUID> invoiceIds, LocalDate today) {
+        TransactionTemplate savepoint = new TransactionTemplate(transactionManager);
+        savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+
+        int generated = 0;
+        int warned = 0;
+        int stoppedUnpaid = 0;
+        int failed = 0;
+        List<Invoice> generatedInvoices = new ArrayList<>();
+
+        List<Invoice> sources = invoiceRepository.findAllForRecurringGenerationByIdIn(invoiceIds);
+
+        for (int i = 0; i < sources.size(); i++) {
+            Invoice source = sources.get(i);
+            List<Invoice> created = new ArrayList<>(1);
+
+            try {
+                RecurringOutcome outcome = savepoint.execute(status -> {
+                    RecurringOutcome result = processRecurringInvoice(source, today, created);
+                    entityManager.flush();
+                    return result;
+                });
+
+                switch (outcome) {
+                    case GENERATED -> generated++;
+                    case WARNED -> warned++;
+                    case STOPPED -> stoppedUnpaid++;
+                    case SKIPPED -> {
+                    }
                 }
+                generatedInvoices.addAll(created);
 
             } catch (Exception e) {
+                failed++;
                 log.error("Failed to process recurring invoice {}: {}",
                         source.getInvoiceNumber(), e.getMessage(), e);
+
+                // The savepoint rollback does not undo the failed invoice's changes in the persistence
+                // context, so drop them and reload the sources that are still to be processed.
+                entityManager.clear();
+                List<UUID> remainingIds = sources.subList(i + 1, sources.size()).stream()
+                        .map(Invoice::getId)
+                        .toList();
+                sources = new ArrayList<>(sources.subList(0, i + 1));
+                if (!remainingIds.isEmpty()) {
+                    sources.addAll(invoiceRepository.findAllForRecurringGenerationByIdIn(remainingIds));
+                }
             }
-        } //
+        }
 
-        log.info("Recurring generation completed. Generated: {}, Warned: {}, Stopped: {}",
-                generated, warned, stoppedUnpaid);
+        generatedInvoices.forEach(invoiceSummaryService::recordCreated);
 
-        if (generated > 0 || stoppedUnpaid > 0) {
-            clearInvoicesCache();
-        }
+        invoiceEmailService.sendInvoiceActionEmails(generatedInvoices.stream()
+                        .filter(invoice -> invoice.getStatus() == InvoiceStatus.SENT)
+                        .toList(),
+                "Recurring Invoice Generated");
+
+        return new RecurringChunkReport(chunkNumber, generated, warned, stoppedUnpaid, failed);
     }
 
+    private RecurringOutcome processRecurringInvoice(Invoice source, LocalDate today, List<Invoice> created) {
+        InvoiceStatus status = source.getStatus();
+        LocalDate nextGenDate = source.getNextGenerationDate();
+
+        if (status == InvoiceStatus.PAID) {
+            LocalDate scheduledDate = nextGenDate;
+            Invoice newInvoice = createRecurringInvoice(source, scheduledDate);
+
+            invoiceRepository.save(newInvoice);
+            created.add(newInvoice);
+
+            source.setIsRecurring(false);
+            invoiceRepository.save(source);
+
+            log.info("Generated recurring invoice {} from {} (scheduled: {})",
+                    newInvoice.getInvoiceNumber(),
+                    source.getInvoiceNumber(),
+                    scheduledDate);
+            return RecurringOutcome.GENERATED;
+        }
+
+        if (nextGenDate.isEqual(today)) {
+            invoiceEmailService.sendPaymentUrgentWarningToClient(source);
+            invoiceEmailService.sendRecurringWarningToUser(source);
+
+            log.warn("Grace period for invoice {} - client warned, checking again tomorrow",
+                    source.getInvoiceNumber());
+            return RecurringOutcome.WARNED;
+        }
+
+        if (nextGenDate.isBefore(today)) {
+            source.setIsRecurring(false);
+            invoiceRepository.save(source);
+
+            invoiceEmailService.sendRecurringStoppedToUser(source);
+            invoiceEmailService.sendRecurringStoppedToClient(source);
+
+            log.warn("Stopped recurring for invoice {} - status is {} and grace period expired",
+                    source.getInvoiceNumber(), status);
+            return RecurringOutcome.STOPPED;
+        }
+
+        return RecurringOutcome.SKIPPED;
+    }
 
     @Scheduled(cron = "0 0 1 * * *")
-    @Transactional
     public void updateInvoiceStatuses() {
         log.info("Starting scheduled invoice status update...");
 
         LocalDate today = LocalDate.now();
-        int dueCount = 0;
-        int overdueCount = 0;
-
-        List<Invoice> sentInvoices = invoiceRepository.findByStatus(InvoiceStatus.SENT);
-        for (Invoice invoice : sentInvoices) {
-            if (invoice.getDueDate().isBefore(today)) {
-                invoice.setStatus(InvoiceStatus.OVERDUE);
-                overdueCount++;
-                invoiceEmailService.sendOverdueReminderEmail(invoice);
-            } else if (invoice.getDueDate().isEqual(today)) {
-                invoice.setStatus(InvoiceStatus.DUE);
-                dueCount++;
-                invoiceEmailService.sendDueReminderEmail(invoice);
-            }
-        }
-        invoiceRepository.saveAll(sentInvoices);
-
-        List<Invoice> dueInvoices = invoiceRepository.findByStatus(InvoiceStatus.DUE);
-        for (Invoice invoice : dueInvoices) {
-            if (invoice.getDueDate().isBefore(today)) {
-                invoice.setStatus(InvoiceStatus.OVERDUE);
-                overdueCount++;
-                invoiceEmailService.sendOverdueReminderEmail(invoice);
-            }
-        }
-        invoiceRepository.saveAll(dueInvoices);
+
+        int dueCount = transitionInChunks(
+                () -> invoiceRepository.markSentAsDue(today, statusChunkSize),
+                InvoiceStatus.SENT, InvoiceStatus.DUE,
+                invoiceEmailService::sendDueReminderEmails);
+
+        int overdueCount = transitionInChunks(
+                () -> invoiceRepository.markSentAsOverdue(today, statusChunkSize),
+                InvoiceStatus.SENT, InvoiceStatus.OVERDUE,
+                invoiceEmailService::sendOverdueReminderEmails);
+
+        overdueCount += transitionInChunks(
+                () -> invoiceRepository.markDueAsOverdue(today, statusChunkSize),
+                InvoiceStatus.DUE, InvoiceStatus.OVERDUE,
+                invoiceEmailService::sendOverdueReminderEmails);
 
         boolean changesMade = dueCount > 0 || overdueCount > 0;
 
@@ -150,13 +268,38 @@ public class InvoiceSchedulerService {
         }
     }
 
+    private int transitionInChunks(Supplier<List<UUID>> transition, InvoiceStatus fromStatus,
+                                   InvoiceStatus toStatus, Consumer<List<Invoice>> reminder) {
+        int transitioned = 0;
 
-    private void clearInvoicesCache() {
-        Cache invoiceCache = cacheManager.getCache("invoices");
-        if (invoiceCache != null) {
-            invoiceCache.clear();
-            log.info("Cleared 'invoices' cache due to scheduled updates.");
+        while (true) {
+            List<UUID> changedIds = transactionTemplate.execute(status -> {
+                List<UUID> ids = transition.get();
+                if (!ids.isEmpty()) {
+                    invoiceSummaryService.recordBulkTransition(ids, fromStatus, toStatus);
+                    reminder.accept(invoiceRepository.findAllWithClientAndUserByIdIn(ids));
+                }
+                return ids;
+            });
+
+            if (changedIds == null || changedIds.isEmpty()) {
+                break;
+            }
+
+            transitioned += changedIds.size();
+
+            if (changedIds.size() < statusChunkSize) {
+                break;
+            }
         }
+
+        return transitioned;
+    }
+
+
+    private void clearInvoicesCache() {
+        cacheGenerationService.bumpGlobalGeneration("invoices");
+        log.info("Invalidated 'invoices' cache due to scheduled updates.");
     }
 
     private Invoice createRecurringInvoice(Invoice source, LocalDate scheduledIssueDate) {
@@ -194,20 +337,18 @@ public class InvoiceSchedulerService {
                 invoiceNumberGenerator.generateInvoiceNumber(source.getUser().getId())
         );
 
-        for (InvoiceItem sourceItem : source.getItems()) {
-            InvoiceItem newItem = InvoiceItem.builder()
-                    .product(sourceItem.getProduct())
-                    .productName(sourceItem.getProductName())
-                    .productDescription(sourceItem.getProductDescription())
-                    .quantity(sourceItem.getQuantity())
-                    .unitPrice(sourceItem.getUnitPrice())
-                    .build();
-            newInvoice.addItem(newItem);
-        }
+        invoiceLineItemStorage.replaceLineItems(newInvoice, source.currentLineItems().stream()
+                .map(line -> line.toBuilder().id(UuidV7Generator.next()).build())
+                .collect(Collectors.toList()));
 
         newInvoice.calculateTotals();
 
         return newInvoice;
     }
-}
 
+    public record RecurringChunkReport(int chunk, int generated, int warned, int stopped, int failed) {}
+
+    private enum RecurringOutcome {
+        GENERATED, WARNED, STOPPED, SKIPPED
+    }
+}
@@ -2,6 +2,7 @@ package com.invoiceapp.invoice.application.service;
 
 import com.invoiceapp.common.dto.PageDTO;
 import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+import com.invoiceapp.invoice.presentation.dto.request.InvoiceItemPatchRequest;
 import com.invoiceapp.invoice.presentation.dto.request.InvoiceRequest;
 import com.invoiceapp.invoice.presentation.dto.response.InvoiceResponse;
 import org.springframework.data.domain.Page;
@@ -15,6 +16,8 @@ public interface InvoiceService {
 
     InvoiceResponse updateInvoice(UUID invoiceId, InvoiceRequest request, UUID userId);
 
+    InvoiceResponse updateInvoiceItem(UUID invoiceId, UUID itemId, InvoiceItemPatchRequest request, UUID userId);
+
     void deleteInvoice(UUID invoiceId, UUID userId);
 
     InvoiceResponse getInvoiceById(UUID invoiceId, UUID userId);
@@ -22,6 +25,10 @@ public interface InvoiceService {
     PageDTO<InvoiceResponse> getAllInvoices(UUID userId, int page, int size, String sortBy, String sortDir,
                                             String search, InvoiceStatus status, LocalDate startDate, LocalDate endDate, Boolean isRecurring);
 
+    PageDTO<InvoiceResponse> scrollInvoices(UUID userId, String cursor, int size, String sortBy, String sortDir,
+                                            String search, InvoiceStatus status, LocalDate startDate, LocalDate endDate,
+                                            Boolean isRecurring, boolean includeTotal);
+
     InvoiceResponse stopRecurring(UUID invoiceId, UUID userId);
 
     InvoiceResponse approveCancellation(UUID invoiceId, UUID userId);
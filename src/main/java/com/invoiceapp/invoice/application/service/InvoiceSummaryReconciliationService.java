@@ -0,0 +1,109 @@
+package com.invoiceapp.invoice.application.service;
+
+import com.invoiceapp.common.service.CacheGenerationService;
+import com.invoiceapp.invoice.domain.entity.InvoiceStatusTotal;
+import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceRepository;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceStatusTotalRepository;
+import com.invoiceapp.invoice.infrastructure.repository.projection.InvoiceStatusAggregate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InvoiceSummaryReconciliationService {
+
+    private final InvoiceRepository invoiceRepository;
+    private final InvoiceStatusTotalRepository invoiceStatusTotalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheGenerationService cacheGenerationService;
+
+    @Scheduled(cron = "${app.scheduler.summary-reconciliation-cron:0 30 3 * * *}")
+    public void reconcileSummaries() {
+        log.info("Starting invoice summary reconciliation...");
+        reconcileAll();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSummariesIfEmpty() {
+        if (invoiceStatusTotalRepository.count() == 0) {
+            log.info("Invoice summary table is empty, building it from existing invoices...");
+            reconcileAll();
+        }
+    }
+
+    public ReconciliationReport reconcileAll() {
+        List<UUID> userIds = invoiceStatusTotalRepository.findAllSummarizedUserIds();
+        int drifted = 0;
+        int failed = 0;
+
+        for (UUID userId : userIds) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcileUser(userId)))) {
+                    drifted++;
+                    cacheGenerationService.bumpGeneration("invoices", userId);
+                }
+            } catch (Exception e) {
+                failed++;
+                log.error("Failed to reconcile invoice summary for user {}: {}", userId, e.getMessage(), e);
+            }
+        }
+
+        ReconciliationReport report = new ReconciliationReport(userIds.size(), drifted, failed);
+        if (drifted > 0 || failed > 0) {
+            log.warn("Invoice summary reconciliation finished: {}", report);
+        } else {
+            log.info("Invoice summary reconciliation finished: {}", report);
+        }
+        return report;
+    }
+
+    private boolean reconcileUser(UUID userId) {
+        Map<InvoiceStatus, InvoiceStatusTotal> stored = new EnumMap<>(InvoiceStatus.class);
+        for (InvoiceStatusTotal total : invoiceStatusTotalRepository.lockAllByUserId(userId)) {
+            stored.put(total.getId().getStatus(), total);
+        }
+
+        Map<InvoiceStatus, InvoiceStatusAggregate> actual = new EnumMap<>(InvoiceStatus.class);
+        for (InvoiceStatusAggregate aggregate : invoiceRepository.aggregateByStatusForUser(userId)) {
+            actual.put(aggregate.getStatus(), aggregate);
+        }
+
+        boolean drift = false;
+
+        for (InvoiceStatus status : InvoiceStatus.values()) {
+            InvoiceStatusTotal storedTotal = stored.get(status);
+            InvoiceStatusAggregate actualTotal = actual.get(status);
+
+            long storedCount = storedTotal != null ? storedTotal.getInvoiceCount() : 0;
+            BigDecimal storedAmount = storedTotal != null ? storedTotal.getTotalAmount() : BigDecimal.ZERO;
+            long actualCount = actualTotal != null ? actualTotal.getInvoiceCount() : 0;
+            BigDecimal actualAmount = actualTotal != null ? actualTotal.getTotalAmount() : BigDecimal.ZERO;
+
+            if (storedCount == actualCount && storedAmount.compareTo(actualAmount) == 0) {
+                continue;
+            }
+
+            log.warn("Invoice summary drift for user {} status {}: stored {} / {}, actual {} / {}",
+                    userId, status, storedCount, storedAmount, actualCount, actualAmount);
+            invoiceStatusTotalRepository.overwrite(userId, status.name(), actualCount, actualAmount);
+            drift = true;
+        }
+
+        return drift;
+    }
+
+    public record ReconciliationReport(int usersChecked, int usersWithDrift, int usersFailed) {}
+}
@@ -0,0 +1,18 @@
+package com.invoiceapp.invoice.application.service;
+
+import com.invoiceapp.invoice.domain.entity.Invoice;
+import com.invoiceapp.invoice.domain.entity.InvoiceStatusTotal;
+import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface InvoiceSummaryService {
+    void recordCreated(Invoice invoice);
+    void recordUpdated(Invoice invoice, InvoiceStatus oldStatus, BigDecimal oldTotal);
+    void recordDeleted(Invoice invoice);
+    void recordBulkTransition(Collection<UUID> invoiceIds, InvoiceStatus fromStatus, InvoiceStatus toStatus);
+    List<InvoiceStatusTotal> getTotals(UUID userId);
+}
@@ -2,6 +2,7 @@ package com.invoiceapp.invoice.domain.entity;
 
 import com.invoiceapp.auth.domain.entity.User;
 import com.invoiceapp.client.domain.entity.Client;
+import com.invoiceapp.common.persistence.UuidV7;
 import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
 import com.invoiceapp.invoice.domain.enums.RecurringFrequency;
 import jakarta.persistence.*;
@@ -17,6 +18,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "invoices")
@@ -30,7 +32,7 @@ import java.util.UUID;
 public class Invoice {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -60,6 +62,10 @@ public class Invoice {
     @Builder.Default
     private List<InvoiceItem> items = new ArrayList<>();
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "line_items", columnDefinition = "jsonb")
+    private List<InvoiceLineItem> lineItems;
+
     @Column(precision = 15, scale = 2)
     private BigDecimal subtotal;
 
@@ -114,14 +120,18 @@ public class Invoice {
         item.setInvoice(this);
     }
 
+    public List<InvoiceLineItem> currentLineItems() {
+        if (lineItems != null) {
+            return lineItems;
+        }
+        return items.stream()
+                .map(InvoiceLineItem::from)
+                .collect(Collectors.toList());
+    }
+
     public void calculateTotals() {
-        this.subtotal = items.stream()
-                .map(item -> {
-                    if (item.getTotal() == null) {
-                        return item.getUnitPrice().multiply(new BigDecimal(item.getQuantity()));
-                    }
-                    return item.getTotal();
-                })
+        this.subtotal = currentLineItems().stream()
+                .map(InvoiceLineItem::getTotal)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         BigDecimal rate = (this.taxRate != null) ? this.taxRate : BigDecimal.ZERO;
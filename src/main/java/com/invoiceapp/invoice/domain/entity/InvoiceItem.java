@@ -1,5 +1,6 @@
 package com.invoiceapp.invoice.domain.entity;
 
+import com.invoiceapp.common.persistence.UuidV7;
 import com.invoiceapp.product.domain.entity.Product;
 import jakarta.persistence.*;
 import lombok.*;
@@ -17,7 +18,7 @@ import java.util.UUID;
 public class InvoiceItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
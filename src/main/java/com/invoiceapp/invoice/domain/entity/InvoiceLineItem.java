@@ -0,0 +1,62 @@
+package com.invoiceapp.invoice.domain.entity;
+
+import com.invoiceapp.common.persistence.UuidV7Generator;
+import com.invoiceapp.product.domain.entity.Product;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Storage-independent view of one invoice line, either read from an {@link InvoiceItem} row or
+ * kept directly in the invoice's {@code line_items} JSONB document.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvoiceLineItem {
+    private UUID id;
+    private UUID productId;
+    private String productName;
+    private String productDescription;
+    private Integer quantity;
+    private BigDecimal unitPrice;
+    private BigDecimal total;
+
+    public static InvoiceLineItem of(Product product, Integer quantity) {
+        return InvoiceLineItem.builder()
+                .id(UuidV7Generator.next())
+                .productId(product.getId())
+                .productName(product.getName())
+                .productDescription(product.getDescription())
+                .quantity(quantity)
+                .unitPrice(product.getPrice())
+                .total(product.getPrice().multiply(new BigDecimal(quantity)))
+                .build();
+    }
+
+    public static InvoiceLineItem from(InvoiceItem item) {
+        return InvoiceLineItem.builder()
+                .id(item.getId())
+                .productId(item.getProduct() != null ? item.getProduct().getId() : null)
+                .productName(item.getProductName())
+                .productDescription(item.getProductDescription())
+                .quantity(item.getQuantity())
+                .unitPrice(item.getUnitPrice())
+                .total(item.getTotal() != null
+                        ? item.getTotal()
+                        : item.getUnitPrice().multiply(new BigDecimal(item.getQuantity())))
+                .build();
+    }
+
+    public InvoiceLineItem withQuantity(Integer quantity) {
+        return toBuilder()
+                .quantity(quantity)
+                .total(unitPrice.multiply(new BigDecimal(quantity)))
+                .build();
+    }
+}
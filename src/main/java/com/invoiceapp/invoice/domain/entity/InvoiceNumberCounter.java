@@ -0,0 +1,20 @@
+package com.invoiceapp.invoice.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "invoice_number_counters")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvoiceNumberCounter {
+
+    @EmbeddedId
+    private InvoiceNumberCounterId id;
+
+    @Column(nullable = false)
+    private Long lastValue;
+}
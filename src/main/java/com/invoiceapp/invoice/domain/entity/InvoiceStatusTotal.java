@@ -0,0 +1,29 @@
+package com.invoiceapp.invoice.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "invoice_status_totals")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvoiceStatusTotal {
+
+    @EmbeddedId
+    private InvoiceStatusTotalId id;
+
+    @Column(nullable = false)
+    private Long invoiceCount;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
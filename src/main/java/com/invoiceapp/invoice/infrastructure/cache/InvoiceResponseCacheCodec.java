@@ -0,0 +1,113 @@
+package com.invoiceapp.invoice.infrastructure.cache;
+
+import com.invoiceapp.common.cache.codec.CacheCodec;
+import com.invoiceapp.common.cache.codec.CodecReader;
+import com.invoiceapp.common.cache.codec.CodecWriter;
+import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+import com.invoiceapp.invoice.domain.enums.RecurringFrequency;
+import com.invoiceapp.invoice.presentation.dto.response.InvoiceItemResponse;
+import com.invoiceapp.invoice.presentation.dto.response.InvoiceResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class InvoiceResponseCacheCodec implements CacheCodec<InvoiceResponse> {
+
+    @Override
+    public byte tag() {
+        return 0x10;
+    }
+
+    @Override
+    public Class<InvoiceResponse> type() {
+        return InvoiceResponse.class;
+    }
+
+    @Override
+    public void write(InvoiceResponse value, CodecWriter writer) throws IOException {
+        writer.writeUuid(value.getId());
+        writer.writeUuid(value.getClientId());
+        writer.writeString(value.getClientName());
+        writer.writeString(value.getInvoiceNumber());
+        writer.writeLocalDate(value.getIssueDate());
+        writer.writeLocalDate(value.getDueDate());
+        writer.writeEnum(value.getStatus());
+        writer.writeString(value.getDisplayStatus());
+        writeItems(value.getItems(), writer);
+        writer.writeBigDecimal(value.getSubtotal());
+        writer.writeBigDecimal(value.getTaxRate());
+        writer.writeBigDecimal(value.getTaxAmount());
+        writer.writeBigDecimal(value.getTotal());
+        writer.writeString(value.getNotes());
+        writer.writeBoolean(value.getIsRecurring());
+        writer.writeEnum(value.getRecurringFrequency());
+        writer.writeLocalDate(value.getNextGenerationDate());
+        writer.writeUuid(value.getRecurringSeriesId());
+        writer.writeLocalDateTime(value.getCreatedAt());
+        writer.writeLocalDateTime(value.getUpdatedAt());
+    }
+
+    @Override
+    public InvoiceResponse read(CodecReader reader) throws IOException {
+        return InvoiceResponse.builder()
+                .id(reader.readUuid())
+                .clientId(reader.readUuid())
+                .clientName(reader.readString())
+                .invoiceNumber(reader.readString())
+                .issueDate(reader.readLocalDate())
+                .dueDate(reader.readLocalDate())
+                .status(reader.readEnum(InvoiceStatus.class))
+                .displayStatus(reader.readString())
+                .items(readItems(reader))
+                .subtotal(reader.readBigDecimal())
+                .taxRate(reader.readBigDecimal())
+                .taxAmount(reader.readBigDecimal())
+                .total(reader.readBigDecimal())
+                .notes(reader.readString())
+                .isRecurring(reader.readBoolean())
+                .recurringFrequency(reader.readEnum(RecurringFrequency.class))
+                .nextGenerationDate(reader.readLocalDate())
+                .recurringSeriesId(reader.readUuid())
+                .createdAt(reader.readLocalDateTime())
+                .updatedAt(reader.readLocalDateTime())
+                .build();
+    }
+
+    private void writeItems(List<InvoiceItemResponse> items, CodecWriter writer) throws IOException {
+        writer.writeInt(items != null ? items.size() : -1);
+        if (items == null) {
+            return;
+        }
+        for (InvoiceItemResponse item : items) {
+            writer.writeUuid(item.getId());
+            writer.writeUuid(item.getProductId());
+            writer.writeString(item.getProductName());
+            writer.writeInteger(item.getQuantity());
+            writer.writeBigDecimal(item.getUnitPrice());
+            writer.writeBigDecimal(item.getTotal());
+        }
+    }
+
+    private List<InvoiceItemResponse> readItems(CodecReader reader) throws IOException {
+        int count = reader.readInt();
+        if (count < 0) {
+            return null;
+        }
+
+        List<InvoiceItemResponse> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(InvoiceItemResponse.builder()
+                    .id(reader.readUuid())
+                    .productId(reader.readUuid())
+                    .productName(reader.readString())
+                    .quantity(reader.readInteger())
+                    .unitPrice(reader.readBigDecimal())
+                    .total(reader.readBigDecimal())
+                    .build());
+        }
+        return items;
+    }
+}
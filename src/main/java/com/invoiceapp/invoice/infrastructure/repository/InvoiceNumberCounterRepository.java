@@ -0,0 +1,53 @@
+package com.invoiceapp.invoice.infrastructure.repository;
+
+import com.invoiceapp.invoice.domain.entity.InvoiceNumberCounter;
+import com.invoiceapp.invoice.domain.entity.InvoiceNumberCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Repository
+public interface InvoiceNumberCounterRepository extends JpaRepository<InvoiceNumberCounter, InvoiceNumberCounterId> {
+
+    @Transactional
+    @Query(value = """
+            INSERT INTO invoice_number_counters (user_id, invoice_year, last_value)
+            VALUES (:userId, :year, :blockSize)
+            ON CONFLICT (user_id, invoice_year) DO UPDATE SET
+                last_value = invoice_number_counters.last_value + EXCLUDED.last_value
+            RETURNING last_value
+            """, nativeQuery = true)
+    Long reserveBlock(@Param("userId") UUID userId,
+                      @Param("year") int year,
+                      @Param("blockSize") int blockSize);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE invoice_number_counters SET last_value = :releasedLast
+            WHERE user_id = :userId AND invoice_year = :year AND last_value = :expectedLast
+            """, nativeQuery = true)
+    int releaseBlock(@Param("userId") UUID userId,
+                     @Param("year") int year,
+                     @Param("expectedLast") long expectedLast,
+                     @Param("releasedLast") long releasedLast);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO invoice_number_counters (user_id, invoice_year, last_value)
+            SELECT user_id,
+                   CAST(split_part(invoice_number, '-', 2) AS INTEGER),
+                   MAX(CAST(split_part(invoice_number, '-', 3) AS BIGINT))
+            FROM invoices
+            WHERE invoice_number ~ '^[A-Z0-9]+-[0-9]{4}-[0-9]+$'
+            GROUP BY user_id, split_part(invoice_number, '-', 2)
+            ON CONFLICT (user_id, invoice_year) DO UPDATE SET
+                last_value = GREATEST(invoice_number_counters.last_value, EXCLUDED.last_value)
+            """, nativeQuery = true)
+    int seedFromInvoices();
+}
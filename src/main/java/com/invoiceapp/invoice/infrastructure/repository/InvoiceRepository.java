@@ -2,6 +2,7 @@ package com.invoiceapp.invoice.infrastructure.repository;
 
 import com.invoiceapp.invoice.domain.entity.Invoice;
 import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+import com.invoiceapp.invoice.infrastructure.repository.projection.InvoiceStatusAggregate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,12 +12,15 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface InvoiceRepository extends JpaRepository<Invoice, UUID>, JpaSpecificationExecutor<Invoice> {
+public interface InvoiceRepository extends JpaRepository<Invoice, UUID>, JpaSpecificationExecutor<Invoice>,
+        InvoiceRepositoryCustom {
 
     Page<Invoice> findByUserId(UUID userId, Pageable pageable);
 
@@ -33,4 +37,112 @@ public interface InvoiceRepository extends JpaRepository<Invoice, UUID>, JpaSpec
 
     List<Invoice> findByIsRecurringTrueAndNextGenerationDateLessThanEqual(LocalDate date);
 
-}
\ No newline at end of file
+    @Query("SELECT i FROM Invoice i LEFT JOIN FETCH i.client JOIN FETCH i.user WHERE i.id IN :ids")
+    List<Invoice> findAllWithClientAndUserByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT DISTINCT i FROM Invoice i LEFT JOIN FETCH i.client LEFT JOIN FETCH i.items WHERE i.id IN :ids")
+    List<Invoice> findAllWithClientAndItemsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query(value = """
+            SELECT id FROM invoices
+            WHERE is_recurring = TRUE
+              AND next_generation_date <= :date
+              AND created_at < :createdBefore
+              AND deleted_at IS NULL
+              AND id > :afterId
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findRecurringIdsDueAfter(@Param("date") LocalDate date,
+                                        @Param("createdBefore") LocalDateTime createdBefore,
+                                        @Param("afterId") UUID afterId,
+                                        @Param("limit") int limit);
+
+    @Query("""
+            SELECT DISTINCT i FROM Invoice i
+            LEFT JOIN FETCH i.client
+            JOIN FETCH i.user
+            LEFT JOIN FETCH i.items
+            WHERE i.id IN :ids
+            ORDER BY i.id
+            """)
+    List<Invoice> findAllForRecurringGenerationByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query(value = """
+            UPDATE invoices SET status = 'DUE', updated_at = NOW()
+            WHERE id IN (
+                SELECT id FROM invoices
+                WHERE status = 'SENT' AND due_date = :today AND deleted_at IS NULL
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id
+            """, nativeQuery = true)
+    List<UUID> markSentAsDue(@Param("today") LocalDate today, @Param("limit") int limit);
+
+    @Query(value = """
+            UPDATE invoices SET status = 'OVERDUE', updated_at = NOW()
+            WHERE id IN (
+                SELECT id FROM invoices
+                WHERE status = 'SENT' AND due_date < :today AND deleted_at IS NULL
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id
+            """, nativeQuery = true)
+    List<UUID> markSentAsOverdue(@Param("today") LocalDate today, @Param("limit") int limit);
+
+    @Query(value = """
+            UPDATE invoices SET status = 'OVERDUE', updated_at = NOW()
+            WHERE id IN (
+                SELECT id FROM invoices
+                WHERE status = 'DUE' AND due_date < :today AND deleted_at IS NULL
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id
+            """, nativeQuery = true)
+    List<UUID> markDueAsOverdue(@Param("today") LocalDate today, @Param("limit") int limit);
+
+    @Query(value = """
+            WITH batch AS (
+                SELECT id FROM invoices
+                WHERE line_items IS NULL
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ),
+            migrated AS (
+                UPDATE invoices i SET line_items = COALESCE((
+                    SELECT jsonb_agg(jsonb_build_object(
+                            'id', ii.id,
+                            'productId', ii.product_id,
+                            'productName', ii.product_name,
+                            'productDescription', ii.product_description,
+                            'quantity', ii.quantity,
+                            'unitPrice', ii.unit_price,
+                            'total', ii.total
+                        ) ORDER BY ii.id)
+                    FROM invoice_items ii
+                    WHERE ii.invoice_id = i.id
+                ), CAST('[]' AS jsonb))
+                FROM batch
+                WHERE i.id = batch.id
+                RETURNING i.id
+            ),
+            removed AS (
+                DELETE FROM invoice_items
+                WHERE invoice_id IN (SELECT id FROM migrated)
+            )
+            SELECT id FROM migrated
+            """, nativeQuery = true)
+    List<UUID> migrateLineItemsToJsonb(@Param("limit") int limit);
+
+    @Query("""
+            SELECT i.status AS status, COUNT(i) AS invoiceCount, COALESCE(SUM(i.total), 0) AS totalAmount
+            FROM Invoice i
+            WHERE i.user.id = :userId
+            GROUP BY i.status
+            """)
+    List<InvoiceStatusAggregate> aggregateByStatusForUser(@Param("userId") UUID userId);
+
+}
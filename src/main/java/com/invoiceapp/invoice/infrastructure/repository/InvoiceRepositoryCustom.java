@@ -0,0 +1,12 @@
+package com.invoiceapp.invoice.infrastructure.repository;
+
+import com.invoiceapp.invoice.domain.entity.Invoice;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public interface InvoiceRepositoryCustom {
+    Page<UUID> findIds(Specification<Invoice> spec, Pageable pageable);
+}
@@ -0,0 +1,77 @@
+package com.invoiceapp.invoice.infrastructure.repository;
+
+import com.invoiceapp.invoice.domain.entity.InvoiceStatusTotal;
+import com.invoiceapp.invoice.domain.entity.InvoiceStatusTotalId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface InvoiceStatusTotalRepository extends JpaRepository<InvoiceStatusTotal, InvoiceStatusTotalId> {
+
+    List<InvoiceStatusTotal> findAllByIdUserId(UUID userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM InvoiceStatusTotal t WHERE t.id.userId = :userId")
+    List<InvoiceStatusTotal> lockAllByUserId(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO invoice_status_totals (user_id, status, invoice_count, total_amount, updated_at)
+            VALUES (:userId, :status, :countDelta, :amountDelta, NOW())
+            ON CONFLICT (user_id, status) DO UPDATE SET
+                invoice_count = invoice_status_totals.invoice_count + EXCLUDED.invoice_count,
+                total_amount = invoice_status_totals.total_amount + EXCLUDED.total_amount,
+                updated_at = NOW()
+            """, nativeQuery = true)
+    void applyDelta(@Param("userId") UUID userId,
+                    @Param("status") String status,
+                    @Param("countDelta") long countDelta,
+                    @Param("amountDelta") BigDecimal amountDelta);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO invoice_status_totals (user_id, status, invoice_count, total_amount, updated_at)
+            SELECT user_id, :status, :sign * COUNT(*), :sign * COALESCE(SUM(total), 0), NOW()
+            FROM invoices
+            WHERE id IN (:invoiceIds)
+            GROUP BY user_id
+            ON CONFLICT (user_id, status) DO UPDATE SET
+                invoice_count = invoice_status_totals.invoice_count + EXCLUDED.invoice_count,
+                total_amount = invoice_status_totals.total_amount + EXCLUDED.total_amount,
+                updated_at = NOW()
+            """, nativeQuery = true)
+    void applyDeltaForInvoices(@Param("invoiceIds") Collection<UUID> invoiceIds,
+                               @Param("status") String status,
+                               @Param("sign") int sign);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO invoice_status_totals (user_id, status, invoice_count, total_amount, updated_at)
+            VALUES (:userId, :status, :invoiceCount, :totalAmount, NOW())
+            ON CONFLICT (user_id, status) DO UPDATE SET
+                invoice_count = EXCLUDED.invoice_count,
+                total_amount = EXCLUDED.total_amount,
+                updated_at = NOW()
+            """, nativeQuery = true)
+    void overwrite(@Param("userId") UUID userId,
+                   @Param("status") String status,
+                   @Param("invoiceCount") long invoiceCount,
+                   @Param("totalAmount") BigDecimal totalAmount);
+
+    @Query(value = """
+            SELECT user_id FROM invoices WHERE deleted_at IS NULL
+            UNION
+            SELECT user_id FROM invoice_status_totals
+            """, nativeQuery = true)
+    List<UUID> findAllSummarizedUserIds();
+}
@@ -0,0 +1,51 @@
+package com.invoiceapp.invoice.infrastructure.repository;
+
+import com.invoiceapp.invoice.domain.entity.InvoiceUserCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface InvoiceUserCodeRepository extends JpaRepository<InvoiceUserCode, UUID> {
+
+    @Query("SELECT c.code FROM InvoiceUserCode c WHERE c.userId = :userId")
+    Optional<String> findCodeByUserId(@Param("userId") UUID userId);
+
+    @Transactional
+    @Query(value = "SELECT nextval('invoice_user_code_seq')", nativeQuery = true)
+    Long nextCodeSequence();
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO invoice_user_codes (user_id, code) VALUES (:userId, :code)
+            ON CONFLICT (user_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId, @Param("code") String code);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO invoice_user_codes (user_id, code)
+            SELECT DISTINCT ON (user_id) user_id, split_part(invoice_number, '-', 1)
+            FROM invoices
+            WHERE invoice_number ~ '^[A-Z0-9]+-[0-9]{4}-[0-9]+$'
+            ORDER BY user_id, created_at DESC
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int seedFromInvoices();
+
+    @Query(value = """
+            SELECT setval('invoice_user_code_seq',
+                          COALESCE(MAX(CAST(substring(code FROM 2) AS BIGINT)), 1),
+                          MAX(code) IS NOT NULL)
+            FROM invoice_user_codes
+            WHERE code ~ '^U[0-9]+$'
+            """, nativeQuery = true)
+    Long alignCodeSequence();
+}
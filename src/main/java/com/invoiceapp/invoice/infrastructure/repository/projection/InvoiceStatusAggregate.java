@@ -0,0 +1,11 @@
+package com.invoiceapp.invoice.infrastructure.repository.projection;
+
+import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+
+import java.math.BigDecimal;
+
+public interface InvoiceStatusAggregate {
+    InvoiceStatus getStatus();
+    Long getInvoiceCount();
+    BigDecimal getTotalAmount();
+}
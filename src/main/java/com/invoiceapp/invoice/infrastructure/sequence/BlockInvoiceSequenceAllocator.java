@@ -0,0 +1,80 @@
+package com.invoiceapp.invoice.infrastructure.sequence;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reserves sequence numbers in blocks of {@code app.invoice-number.block-size} and hands them out from
+ * memory. A block size of 1 takes every number straight from the backing store, keeping them ordered
+ * across instances; larger blocks trade that for fewer round trips, since each instance numbers from its
+ * own block and unused numbers are lost if the instance stops without releasing them. Whether numbers
+ * can also be skipped at block size 1 depends on the store, see the implementations.
+ */
+@Slf4j
+public abstract class BlockInvoiceSequenceAllocator implements InvoiceSequenceAllocator {
+
+    protected final int blockSize;
+    private final Map<SequenceKey, SequenceBlock> blocks = new ConcurrentHashMap<>();
+
+    protected BlockInvoiceSequenceAllocator(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("app.invoice-number.block-size must be at least 1");
+        }
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public long nextSequence(UUID userId, int year) {
+        if (blockSize == 1) {
+            return reserveBlock(userId, year);
+        }
+
+        SequenceBlock block = blocks.computeIfAbsent(new SequenceKey(userId, year), key -> new SequenceBlock());
+
+        synchronized (block) {
+            if (block.next > block.last) {
+                long last = reserveBlock(userId, year);
+                block.next = last - blockSize + 1;
+                block.last = last;
+            }
+            return block.next++;
+        }
+    }
+
+    @PreDestroy
+    public void releaseUnusedBlocks() {
+        blocks.forEach((key, block) -> {
+            synchronized (block) {
+                if (block.next > block.last) {
+                    return;
+                }
+                try {
+                    if (releaseBlock(key.userId(), key.year(), block.last, block.next - 1)) {
+                        log.info("Released unused invoice sequence numbers {}-{} for user {} year {}",
+                                block.next, block.last, key.userId(), key.year());
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to release unused invoice sequence block for user {} year {}: {}",
+                            key.userId(), key.year(), e.getMessage());
+                }
+                block.next = block.last + 1;
+            }
+        });
+    }
+
+    protected abstract long reserveBlock(UUID userId, int year);
+
+    protected abstract boolean releaseBlock(UUID userId, int year, long expectedLast, long releasedLast);
+
+    private record SequenceKey(UUID userId, int year) {
+    }
+
+    private static final class SequenceBlock {
+        private long next = 1;
+        private long last = 0;
+    }
+}
@@ -0,0 +1,8 @@
+package com.invoiceapp.invoice.infrastructure.sequence;
+
+import java.util.UUID;
+
+public interface InvoiceSequenceAllocator {
+    String getUserCode(UUID userId);
+    long nextSequence(UUID userId, int year);
+}
@@ -0,0 +1,79 @@
+package com.invoiceapp.invoice.infrastructure.sequence;
+
+import com.invoiceapp.common.constants.AppConstants;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceNumberCounterRepository;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceUserCodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * Keeps invoice counters in Postgres so numbering survives a Redis flush or failover. With a block size
+ * of 1 the counter row is bumped inside the caller's transaction, so a rolled-back invoice gives its
+ * number back and the row lock orders concurrent invoices for the same user; this is the only
+ * configuration that keeps numbering gap-free. Larger blocks are reserved
+ * in their own transaction because they outlive the caller's.
+ */
+@Component
+@ConditionalOnProperty(name = "app.invoice-number.allocator", havingValue = "postgres")
+@Slf4j
+public class PostgresInvoiceSequenceAllocator extends BlockInvoiceSequenceAllocator {
+
+    private final InvoiceNumberCounterRepository counterRepository;
+    private final InvoiceUserCodeRepository userCodeRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public PostgresInvoiceSequenceAllocator(InvoiceNumberCounterRepository counterRepository,
+                                            InvoiceUserCodeRepository userCodeRepository,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${app.invoice-number.block-size:1}") int blockSize) {
+        super(blockSize);
+        this.counterRepository = counterRepository;
+        this.userCodeRepository = userCodeRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public String getUserCode(UUID userId) {
+        return userCodeRepository.findCodeByUserId(userId)
+                .orElseGet(() -> requiresNewTransaction.execute(status -> createNewUserCode(userId)));
+    }
+
+    private String createNewUserCode(UUID userId) {
+        String newUserCode = String.format(AppConstants.USER_CODE_FORMAT, userCodeRepository.nextCodeSequence());
+
+        if (userCodeRepository.insertIfAbsent(userId, newUserCode) == 0) {
+            return userCodeRepository.findCodeByUserId(userId)
+                    .orElseThrow(() -> new IllegalStateException("User code vanished for userId " + userId));
+        }
+
+        log.info("Created new user code {} for userId {}", newUserCode, userId);
+        return newUserCode;
+    }
+
+    @Override
+    protected long reserveBlock(UUID userId, int year) {
+        Long last = blockSize == 1
+                ? counterRepository.reserveBlock(userId, year, blockSize)
+                : requiresNewTransaction.execute(status -> counterRepository.reserveBlock(userId, year, blockSize));
+
+        if (last == null) {
+            throw new IllegalStateException("Failed to reserve invoice sequence for user " + userId);
+        }
+        return last;
+    }
+
+    @Override
+    protected boolean releaseBlock(UUID userId, int year, long expectedLast, long releasedLast) {
+        Integer released = requiresNewTransaction.execute(status ->
+                counterRepository.releaseBlock(userId, year, expectedLast, releasedLast));
+        return released != null && released > 0;
+    }
+}
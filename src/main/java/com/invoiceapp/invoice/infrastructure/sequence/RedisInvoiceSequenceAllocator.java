@@ -0,0 +1,106 @@
+package com.invoiceapp.invoice.infrastructure.sequence;
+
+import com.invoiceapp.common.constants.AppConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps invoice counters in Redis. {@code INCRBY} is not part of the database transaction, so a number
+ * taken by an invoice that later rolls back is never reused and numbering can have gaps at any block
+ * size. Use the Postgres allocator with a block size of 1 where gap-free numbering is required.
+ */
+@Component
+@ConditionalOnProperty(name = "app.invoice-number.allocator", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisInvoiceSequenceAllocator extends BlockInvoiceSequenceAllocator {
+
+    private static final RedisScript<Long> RESERVE_BLOCK_SCRIPT = new DefaultRedisScript<>(
+            "local last = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+                    + "redis.call('EXPIREAT', KEYS[1], ARGV[2]) "
+                    + "return last",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE_BLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('SET', KEYS[1], ARGV[2], 'KEEPTTL') return 1 end "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisInvoiceSequenceAllocator(StringRedisTemplate redisTemplate,
+                                         @Value("${app.invoice-number.block-size:1}") int blockSize) {
+        super(blockSize);
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public String getUserCode(UUID userId) {
+        String userCodeKey = AppConstants.REDIS_USER_CODE_PREFIX + userId;
+        String existingCode = redisTemplate.opsForValue().get(userCodeKey);
+
+        if (existingCode != null) {
+            return existingCode;
+        }
+
+        return createNewUserCode(userId, userCodeKey);
+    }
+
+    private String createNewUserCode(UUID userId, String userCodeKey) {
+        Long userSequence = redisTemplate.opsForValue()
+                .increment(AppConstants.REDIS_USER_CODE_SEQUENCE);
+
+        if (userSequence == null) {
+            throw new RuntimeException("Failed to generate user code sequence");
+        }
+
+        String newUserCode = String.format(AppConstants.USER_CODE_FORMAT, userSequence);
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(userCodeKey, newUserCode))) {
+            return redisTemplate.opsForValue().get(userCodeKey);
+        }
+
+        log.info("Created new user code {} for userId {}", newUserCode, userId);
+
+        return newUserCode;
+    }
+
+    @Override
+    protected long reserveBlock(UUID userId, int year) {
+        String sequenceKey = sequenceKey(userId, year);
+        long expireAt = LocalDate.of(year, 12, 31).plusMonths(1)
+                .atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+
+        Long last = redisTemplate.execute(RESERVE_BLOCK_SCRIPT, List.of(sequenceKey),
+                String.valueOf(blockSize), String.valueOf(expireAt));
+
+        if (last == null) {
+            throw new RuntimeException("Failed to generate invoice sequence from Redis");
+        }
+
+        if (last == blockSize) {
+            log.info("Created new invoice sequence for user {} year {}", userId, year);
+        }
+        return last;
+    }
+
+    @Override
+    protected boolean releaseBlock(UUID userId, int year, long expectedLast, long releasedLast) {
+        Long released = redisTemplate.execute(RELEASE_BLOCK_SCRIPT, List.of(sequenceKey(userId, year)),
+                String.valueOf(expectedLast), String.valueOf(releasedLast));
+        return Long.valueOf(1).equals(released);
+    }
+
+    private String sequenceKey(UUID userId, int year) {
+        return String.format("%s%s:%d", AppConstants.REDIS_INVOICE_SEQUENCE_PREFIX, userId, year);
+    }
+}
@@ -4,6 +4,7 @@ import com.invoiceapp.common.dto.ApiResponse;
 import com.invoiceapp.common.dto.PageDTO;
 import com.invoiceapp.invoice.application.service.InvoiceService;
 import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+import com.invoiceapp.invoice.presentation.dto.request.InvoiceItemPatchRequest;
 import com.invoiceapp.invoice.presentation.dto.request.InvoiceRequest;
 import com.invoiceapp.invoice.presentation.dto.response.InvoiceResponse;
 import jakarta.validation.Valid;
@@ -48,6 +49,17 @@ public class InvoiceController {
         return ResponseEntity.ok(ApiResponse.success("Invoice updated successfully", response));
     }
 
+    @PatchMapping("/{invoiceId}/items/{itemId}")
+    public ResponseEntity<ApiResponse<InvoiceResponse>> updateInvoiceItem(
+            @PathVariable UUID invoiceId,
+            @PathVariable UUID itemId,
+            @Valid @RequestBody InvoiceItemPatchRequest request,
+            @RequestAttribute("userId") UUID userId
+    ) {
+        InvoiceResponse response = invoiceService.updateInvoiceItem(invoiceId, itemId, request, userId);
+        return ResponseEntity.ok(ApiResponse.success("Invoice item updated successfully", response));
+    }
+
     @DeleteMapping("/{invoiceId}")
     public ResponseEntity<ApiResponse<Void>> deleteInvoice(
             @PathVariable UUID invoiceId,
@@ -91,6 +103,29 @@ public class InvoiceController {
 
         return ResponseEntity.ok(ApiResponse.success("Invoices retrieved successfully", invoicesPage));
     }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<PageDTO<InvoiceResponse>>> scrollInvoices(
+            @RequestAttribute("userId") UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) InvoiceStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Boolean isRecurring,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        PageDTO<InvoiceResponse> invoices = invoiceService.scrollInvoices(
+                userId, cursor, size, sortBy, sortDir, search, status, startDate, endDate,
+                isRecurring, includeTotal
+        );
+
+        return ResponseEntity.ok(ApiResponse.success("Invoices retrieved successfully", invoices));
+    }
+
     @PatchMapping("/{invoiceId}/stop-recurring")
     public ResponseEntity<ApiResponse<InvoiceResponse>> stopRecurring(
             @PathVariable UUID invoiceId,
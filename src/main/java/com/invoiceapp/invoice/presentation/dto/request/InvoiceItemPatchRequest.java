@@ -0,0 +1,15 @@
+package com.invoiceapp.invoice.presentation.dto.request;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class InvoiceItemPatchRequest {
+
+    private UUID productId;
+
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+}
@@ -9,6 +9,8 @@ import java.util.UUID;
 @Data
 public class InvoiceItemRequest {
 
+    private UUID id;
+
     @NotNull(message = "Product ID is required")
     private UUID productId;
 
@@ -0,0 +1,32 @@
+package com.invoiceapp.notification.application.implement;
+
+import com.invoiceapp.notification.application.service.EmailOutboxService;
+import com.invoiceapp.notification.domain.entity.EmailOutbox;
+import com.invoiceapp.notification.infrastructure.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRED)
+    public void enqueue(String to, String subject, String body, boolean html) {
+        EmailOutbox email = EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .html(html)
+                .build();
+
+        emailOutboxRepository.save(email);
+        log.debug("Queued email '{}' for: {}", subject, to);
+    }
+}
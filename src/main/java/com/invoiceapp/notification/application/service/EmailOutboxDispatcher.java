@@ -0,0 +1,155 @@
+package com.invoiceapp.notification.application.service;
+
+import com.invoiceapp.notification.domain.entity.EmailOutbox;
+import com.invoiceapp.notification.domain.enums.EmailOutboxStatus;
+import com.invoiceapp.notification.infrastructure.mail.PooledMailSender;
+import com.invoiceapp.notification.infrastructure.repository.EmailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Delivers queued emails in three steps: a short transaction leases a batch (status SENDING until
+ * {@code locked_until}), SMTP delivery happens outside any transaction, and a second short transaction
+ * records the outcome. Rows left in SENDING by a crashed instance are reclaimed once their lease expires.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final PooledMailSender pooledMailSender;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${app.mail.bulk.enabled:true}")
+    private boolean bulkEnabled;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.initial-backoff:PT30S}")
+    private Duration initialBackoff;
+
+    @Value("${app.mail.outbox.max-backoff:PT1H}")
+    private Duration maxBackoff;
+
+    @Value("${app.mail.outbox.lease:PT5M}")
+    private Duration lease;
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval:PT5S}")
+    public void dispatchPendingEmails() {
+        int dispatched;
+
+        do {
+            dispatched = dispatchBatch();
+        } while (dispatched == batchSize);
+    }
+
+    private int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> batch = transactionTemplate.execute(
+                status -> emailOutboxRepository.claimDueBatch(now, now.plus(lease), batchSize));
+
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, Exception> failures = deliver(batch);
+        List<UUID> ids = batch.stream().map(EmailOutbox::getId).toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (EmailOutbox email : emailOutboxRepository.findAllById(ids)) {
+                Exception failure = failures.get(email.getId());
+                if (failure == null) {
+                    markSent(email);
+                } else {
+                    recordFailedAttempt(email, failure);
+                }
+            }
+        });
+
+        return batch.size();
+    }
+
+    private Map<UUID, Exception> deliver(List<EmailOutbox> batch) {
+        if (bulkEnabled) {
+            return pooledMailSender.sendAll(batch);
+        }
+
+        Map<UUID, Exception> failures = new HashMap<>();
+        for (EmailOutbox email : batch) {
+            try {
+                send(email);
+                log.info("Email '{}' sent to: {}", email.getSubject(), email.getRecipient());
+            } catch (Exception e) {
+                failures.put(email.getId(), e);
+            }
+        }
+        return failures;
+    }
+
+    private void markSent(EmailOutbox email) {
+        email.setStatus(EmailOutboxStatus.SENT);
+        email.setSentAt(LocalDateTime.now());
+        email.setLockedUntil(null);
+        email.setLastError(null);
+    }
+
+    private void send(EmailOutbox email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, email.getHtml(), "UTF-8");
+
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), email.getHtml());
+
+        mailSender.send(message);
+    }
+
+    private void recordFailedAttempt(EmailOutbox email, Exception e) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(e.getMessage());
+        email.setLockedUntil(null);
+
+        if (attempts >= maxAttempts) {
+            email.setStatus(EmailOutboxStatus.FAILED);
+            log.error("Giving up on email '{}' to {} after {} attempts",
+                    email.getSubject(), email.getRecipient(), attempts, e);
+            return;
+        }
+
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+
+        email.setStatus(EmailOutboxStatus.PENDING);
+        email.setNextAttemptAt(LocalDateTime.now().plus(backoff));
+        log.warn("Failed to send email '{}' to {} (attempt {}), retrying in {}: {}",
+                email.getSubject(), email.getRecipient(), attempts, backoff, e.getMessage());
+    }
+}
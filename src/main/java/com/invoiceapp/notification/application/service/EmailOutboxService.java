@@ -0,0 +1,11 @@
+package com.invoiceapp.notification.application.service;
+
+public interface EmailOutboxService {
+
+    /**
+     * Queues an email in the caller's transaction, so it is sent only if the business change commits.
+     * A failure here marks that transaction rollback-only; callers must let it propagate rather than
+     * catch it, otherwise the commit fails later with an UnexpectedRollbackException.
+     */
+    void enqueue(String to, String subject, String body, boolean html);
+}
@@ -0,0 +1,8 @@
+package com.invoiceapp.notification.domain.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,133 @@
+package com.invoiceapp.notification.infrastructure.mail;
+
+import com.invoiceapp.common.constants.AppConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailTemplateRenderer {
+
+    private static final List<String> TEMPLATES = List.of(
+            AppConstants.TEMPLATE_VERIFICATION_EMAIL,
+            AppConstants.TEMPLATE_PASSWORD_RESET,
+            AppConstants.TEMPLATE_EMAIL_CHANGE_VERIFICATION,
+            AppConstants.TEMPLATE_EMAIL_CHANGE_NOTIFICATION,
+            AppConstants.TEMPLATE_INVOICE_WITH_ACTIONS,
+            AppConstants.TEMPLATE_PAYMENT_CONFIRMATION
+    );
+
+    private static final Pattern RECIPIENT_PLACEHOLDER = Pattern.compile("\\{\\{recipient:(\\w+)}}");
+
+    private final TemplateEngine templateEngine;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpTemplates() {
+        for (String template : TEMPLATES) {
+            try {
+                templateEngine.process(template, new Context());
+            } catch (Exception e) {
+                log.warn("Could not pre-parse email template '{}': {}", template, e.getMessage());
+            }
+        }
+    }
+
+    public String render(String template, Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariables(variables);
+        return templateEngine.process(template, context);
+    }
+
+    /**
+     * Renders the template once with a placeholder for every recipient variable, then fills the
+     * placeholders per recipient with HTML-escaped values. Recipient variables may therefore only be
+     * printed ({@code th:text}, attributes), never used in conditions or loops. A recipient whose
+     * values cannot be filled gets {@code null} in its slot; the caller can fall back to {@link #render} for it.
+     */
+    public List<String> renderForRecipients(String template, Map<String, Object> sharedVariables,
+                                            List<Map<String, Object>> recipientVariables) {
+        if (recipientVariables.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> segments;
+        try {
+            segments = preRender(template, sharedVariables, recipientVariables.get(0).keySet());
+        } catch (Exception e) {
+            log.error("Failed to render email template '{}' for {} recipients: {}",
+                    template, recipientVariables.size(), e.getMessage());
+            return Collections.nCopies(recipientVariables.size(), null);
+        }
+
+        List<String> documents = new ArrayList<>(recipientVariables.size());
+        for (int i = 0; i < recipientVariables.size(); i++) {
+            try {
+                documents.add(fill(segments, recipientVariables.get(i)));
+            } catch (Exception e) {
+                log.error("Failed to render email template '{}' for recipient {} of {}: {}",
+                        template, i + 1, recipientVariables.size(), e.getMessage());
+                documents.add(null);
+            }
+        }
+        return documents;
+    }
+
+    /**
+     * Splits the shared rendering into literal {@link String} segments and {@link RecipientVariable}
+     * slots.
+     */
+    private List<Object> preRender(String template, Map<String, Object> sharedVariables,
+                                   Iterable<String> recipientVariableNames) {
+        Map<String, Object> variables = new HashMap<>(sharedVariables);
+        for (String name : recipientVariableNames) {
+            variables.put(name, "{{recipient:" + name + "}}");
+        }
+
+        String rendered = render(template, variables);
+        List<Object> segments = new ArrayList<>();
+        Matcher matcher = RECIPIENT_PLACEHOLDER.matcher(rendered);
+        int literalStart = 0;
+        while (matcher.find()) {
+            segments.add(rendered.substring(literalStart, matcher.start()));
+            segments.add(new RecipientVariable(matcher.group(1)));
+            literalStart = matcher.end();
+        }
+        segments.add(rendered.substring(literalStart));
+        return segments;
+    }
+
+    private static String fill(List<Object> segments, Map<String, Object> variables) {
+        StringBuilder document = new StringBuilder();
+        for (Object segment : segments) {
+            if (segment instanceof RecipientVariable(String name)) {
+                if (!variables.containsKey(name)) {
+                    throw new IllegalArgumentException("Missing recipient variable '" + name + "'");
+                }
+                Object value = variables.get(name);
+                if (value != null) {
+                    document.append(HtmlUtils.htmlEscape(value.toString(), "UTF-8"));
+                }
+            } else {
+                document.append((String) segment);
+            }
+        }
+        return document.toString();
+    }
+
+    private record RecipientVariable(String name) {}
+}
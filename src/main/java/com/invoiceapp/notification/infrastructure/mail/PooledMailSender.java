@@ -0,0 +1,179 @@
+package com.invoiceapp.notification.infrastructure.mail;
+
+import com.invoiceapp.notification.domain.entity.EmailOutbox;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+@Component
+@Slf4j
+public class PooledMailSender implements DisposableBean {
+
+    private final JavaMailSenderImpl mailSender;
+    private final String fromEmail;
+    private final int concurrency;
+    private final int messagesPerConnection;
+    private final BlockingQueue<PooledConnection> connections;
+    private final ThreadPoolTaskExecutor workers;
+
+    public PooledMailSender(JavaMailSenderImpl mailSender,
+                            @Qualifier("smtpSenderExecutor") ThreadPoolTaskExecutor workers,
+                            @Value("${spring.mail.username}") String fromEmail,
+                            @Value("${app.mail.bulk.concurrency:4}") int concurrency,
+                            @Value("${app.mail.bulk.messages-per-connection:100}") int messagesPerConnection) {
+        this.mailSender = mailSender;
+        this.workers = workers;
+        this.fromEmail = fromEmail;
+        this.concurrency = concurrency;
+        this.messagesPerConnection = messagesPerConnection;
+        this.connections = new ArrayBlockingQueue<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            connections.add(new PooledConnection());
+        }
+    }
+
+    public Map<UUID, Exception> sendAll(List<EmailOutbox> emails) {
+        Map<UUID, Exception> failures = new ConcurrentHashMap<>();
+        if (emails.isEmpty()) {
+            return failures;
+        }
+
+        long startedAt = System.nanoTime();
+
+        List<Future<?>> slices = new ArrayList<>();
+        for (List<EmailOutbox> slice : split(emails, concurrency)) {
+            slices.add(workers.submit(() -> sendSlice(slice, failures)));
+        }
+
+        for (Future<?> slice : slices) {
+            try {
+                slice.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while sending emails", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Bulk email delivery failed", e.getCause());
+            }
+        }
+
+        double elapsedSeconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+        int delivered = emails.size() - failures.size();
+        log.info("Bulk delivery finished: {} sent, {} failed in {} ms ({} msg/s)",
+                delivered, failures.size(), Math.round(elapsedSeconds * 1000),
+                String.format("%.1f", delivered / elapsedSeconds));
+
+        return failures;
+    }
+
+    private void sendSlice(List<EmailOutbox> slice, Map<UUID, Exception> failures) {
+        PooledConnection connection = connections.poll();
+        if (connection == null) {
+            connection = new PooledConnection();
+        }
+
+        try {
+            for (EmailOutbox email : slice) {
+                try {
+                    connection.send(buildMessage(email));
+                } catch (Exception e) {
+                    failures.put(email.getId(), e);
+                    connection.close();
+                }
+            }
+        } finally {
+            if (!connections.offer(connection)) {
+                connection.close();
+            }
+        }
+    }
+
+    private MimeMessage buildMessage(EmailOutbox email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, email.getHtml(), "UTF-8");
+
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), email.getHtml());
+
+        message.saveChanges();
+        return message;
+    }
+
+    private static <T> List<List<T>> split(List<T> items, int parts) {
+        int sliceSize = (items.size() + parts - 1) / parts;
+        List<List<T>> slices = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += sliceSize) {
+            slices.add(items.subList(start, Math.min(start + sliceSize, items.size())));
+        }
+        return slices;
+    }
+
+    @Override
+    public void destroy() {
+        connections.forEach(PooledConnection::close);
+    }
+
+    private class PooledConnection {
+
+        private Transport transport;
+        private int sentOnConnection;
+
+        void send(MimeMessage message) throws MessagingException {
+            if (transport == null || sentOnConnection >= messagesPerConnection || !transport.isConnected()) {
+                close();
+                open();
+            }
+
+            transport.sendMessage(message, message.getAllRecipients());
+            sentOnConnection++;
+        }
+
+        private void open() throws MessagingException {
+            String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp";
+            transport = mailSender.getSession().getTransport(protocol);
+
+            String username = mailSender.getUsername();
+            String password = mailSender.getPassword();
+            if ("".equals(username)) {
+                username = null;
+                if ("".equals(password)) {
+                    password = null;
+                }
+            }
+
+            transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+            sentOnConnection = 0;
+        }
+
+        void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Failed to close SMTP connection: {}", e.getMessage());
+            }
+            transport = null;
+        }
+    }
+}
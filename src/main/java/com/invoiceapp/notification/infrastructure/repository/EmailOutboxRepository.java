@@ -0,0 +1,35 @@
+package com.invoiceapp.notification.infrastructure.repository;
+
+import com.invoiceapp.notification.domain.entity.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    /**
+     * Leases a batch of due emails by moving them to SENDING until {@code lockedUntil}. Emails whose
+     * lease ran out (for example because the instance died mid-send) are picked up again.
+     */
+    @Query(value = """
+            UPDATE email_outbox SET status = 'SENDING', locked_until = :lockedUntil
+            WHERE id IN (
+                SELECT id FROM email_outbox
+                WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+                   OR (status = 'SENDING' AND locked_until <= :now)
+                ORDER BY next_attempt_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING *
+            """, nativeQuery = true)
+    List<EmailOutbox> claimDueBatch(@Param("now") LocalDateTime now,
+                                    @Param("lockedUntil") LocalDateTime lockedUntil,
+                                    @Param("limit") int limit);
+}
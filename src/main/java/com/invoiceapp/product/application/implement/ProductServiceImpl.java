@@ -4,6 +4,8 @@ import com.invoiceapp.auth.domain.entity.User;
 import com.invoiceapp.auth.infrastructure.repositories.UserRepository;
 import com.invoiceapp.common.dto.PageDTO;
 import com.invoiceapp.common.exception.ResourceNotFoundException;
+import com.invoiceapp.common.pagination.CursorCodec;
+import com.invoiceapp.common.service.CacheGenerationService;
 import com.invoiceapp.common.specification.BaseSpecification;
 import com.invoiceapp.product.application.mapper.ProductMapper;
 import com.invoiceapp.product.application.service.ProductService;
@@ -13,29 +15,35 @@ import com.invoiceapp.product.infrastructure.repository.ProductRepository;
 import com.invoiceapp.product.presentation.dto.request.ProductRequest;
 import com.invoiceapp.product.presentation.dto.response.ProductResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ProductServiceImpl implements ProductService {
 
+    private static final String PRODUCTS_CACHE = "products";
+
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final ProductMapper productMapper;
+    private final CacheGenerationService cacheGenerationService;
+    private final CursorCodec cursorCodec;
 
     @Override
-    @CacheEvict(value = "products", allEntries = true)
     public ProductResponse createProduct(ProductRequest request, UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -49,11 +57,11 @@ public class ProductServiceImpl implements ProductService {
                 .build();
 
         product = productRepository.save(product);
+        cacheGenerationService.bumpGeneration(PRODUCTS_CACHE, userId);
         return productMapper.toResponse(product);
     }
 
     @Override
-    @CacheEvict(value = "products", allEntries = true)
     public ProductResponse updateProduct(UUID id, ProductRequest request, UUID userId) {
         Product product = productRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
@@ -64,16 +72,17 @@ public class ProductServiceImpl implements ProductService {
         product.setType(request.getType());
 
         product = productRepository.save(product);
+        cacheGenerationService.bumpGeneration(PRODUCTS_CACHE, userId);
         return productMapper.toResponse(product);
     }
 
     @Override
-    @CacheEvict(value = "products", allEntries = true)
     public void deleteProduct(UUID id, UUID userId) {
         if (!productRepository.existsByIdAndUserId(id, userId)) {
             throw new ResourceNotFoundException("Product not found");
         }
         productRepository.deleteById(id);
+        cacheGenerationService.bumpGeneration(PRODUCTS_CACHE, userId);
     }
 
     @Override
@@ -86,9 +95,10 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Cacheable(
-            value = "products",
-            key = "#userId + ':' + #page + ':' + #size + ':' + #sortBy + ':' + #sortDir + ':' + #search + ':' + #type",
-            unless = "#result == null || #result.getContent().isEmpty()"
+            value = PRODUCTS_CACHE,
+            key = "#userId + ':' + @cacheGenerationService.currentGeneration('products', #userId)"
+                    + " + ':' + #page + ':' + #size + ':' + #sortBy + ':' + #sortDir + ':' + #search + ':' + #type",
+            sync = true
     )
     @Transactional(readOnly = true)
     public PageDTO<ProductResponse> getAllProducts(UUID userId, int page, int size,
@@ -100,11 +110,7 @@ public class ProductServiceImpl implements ProductService {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Specification<Product> spec = Specification.allOf(
-                BaseSpecification.<Product>withUserId(userId, "user"),
-                BaseSpecification.<Product>withSearch(search, "name"),
-                BaseSpecification.<Product, ProductType>withEquals("type", type)
-        );
+        Specification<Product> spec = productSpecification(userId, search, type);
 
         Page<Product> products = productRepository.findAll(spec, pageable);
         Page<ProductResponse> productResponsePage = products.map(productMapper::toResponse);
@@ -117,4 +123,36 @@ public class ProductServiceImpl implements ProductService {
                 productResponsePage.getSize()
         );
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<ProductResponse> scrollProducts(UUID userId, String cursor, int size,
+                                                   String sortBy, String sortDir,
+                                                   String search, ProductType type, boolean includeTotal) {
+        Sort sort = cursorCodec.keysetSort(sortBy, sortDir);
+        KeysetScrollPosition position = cursorCodec.decode(cursor, sort, Product.class);
+        Specification<Product> spec = productSpecification(userId, search, type);
+
+        Window<Product> window = productRepository.findBy(spec,
+                query -> query.sortBy(sort).limit(size).scroll(position));
+
+        List<ProductResponse> content = window.stream()
+                .map(productMapper::toResponse)
+                .collect(Collectors.toList());
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? cursorCodec.encode(window.positionAt(window.size() - 1), sort)
+                : null;
+
+        return PageDTO.ofWindow(content, size, nextCursor, window.hasNext(),
+                includeTotal ? productRepository.count(spec) : null);
+    }
+
+    private Specification<Product> productSpecification(UUID userId, String search, ProductType type) {
+        return Specification.allOf(
+                BaseSpecification.<Product>withUserId(userId, "user"),
+                BaseSpecification.<Product>withSearch(search, "name"),
+                BaseSpecification.<Product, ProductType>withEquals("type", type)
+        );
+    }
 }
\ No newline at end of file
@@ -15,5 +15,7 @@ public interface ProductService {
     void deleteProduct(UUID productId, UUID userId);
     ProductResponse getProductById(UUID productId, UUID userId);
     PageDTO<ProductResponse> getAllProducts(UUID userId, int page, int size, String sortBy, String sortDir, String search, ProductType type);
+    PageDTO<ProductResponse> scrollProducts(UUID userId, String cursor, int size, String sortBy, String sortDir,
+                                            String search, ProductType type, boolean includeTotal);
 
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.invoiceapp.product.domain.entity;
 
 import com.invoiceapp.auth.domain.entity.User;
+import com.invoiceapp.common.persistence.UuidV7;
 import com.invoiceapp.product.domain.enums.ProductType;
 import jakarta.persistence.*;
 import lombok.*;
@@ -25,7 +26,7 @@ import java.util.UUID;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,48 @@
+package com.invoiceapp.product.infrastructure.cache;
+
+import com.invoiceapp.common.cache.codec.CacheCodec;
+import com.invoiceapp.common.cache.codec.CodecReader;
+import com.invoiceapp.common.cache.codec.CodecWriter;
+import com.invoiceapp.product.domain.enums.ProductType;
+import com.invoiceapp.product.presentation.dto.response.ProductResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+public class ProductResponseCacheCodec implements CacheCodec<ProductResponse> {
+
+    @Override
+    public byte tag() {
+        return 0x12;
+    }
+
+    @Override
+    public Class<ProductResponse> type() {
+        return ProductResponse.class;
+    }
+
+    @Override
+    public void write(ProductResponse value, CodecWriter writer) throws IOException {
+        writer.writeUuid(value.getId());
+        writer.writeString(value.getName());
+        writer.writeString(value.getDescription());
+        writer.writeBigDecimal(value.getPrice());
+        writer.writeEnum(value.getType());
+        writer.writeLocalDateTime(value.getCreatedAt());
+        writer.writeLocalDateTime(value.getUpdatedAt());
+    }
+
+    @Override
+    public ProductResponse read(CodecReader reader) throws IOException {
+        return ProductResponse.builder()
+                .id(reader.readUuid())
+                .name(reader.readString())
+                .description(reader.readString())
+                .price(reader.readBigDecimal())
+                .type(reader.readEnum(ProductType.class))
+                .createdAt(reader.readLocalDateTime())
+                .updatedAt(reader.readLocalDateTime())
+                .build();
+    }
+}
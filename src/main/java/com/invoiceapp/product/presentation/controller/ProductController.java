@@ -83,4 +83,21 @@ public class ProductController {
 
         return ResponseEntity.ok(ApiResponse.success("Products retrieved successfully", productsPage));
     }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<PageDTO<ProductResponse>>> scrollProducts(
+            @RequestAttribute("userId") UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) ProductType type,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        PageDTO<ProductResponse> products = productService.scrollProducts(
+                userId, cursor, size, sortBy, sortDir, search, type, includeTotal);
+
+        return ResponseEntity.ok(ApiResponse.success("Products retrieved successfully", products));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.invoiceapp.search.application.implement;
+
+import com.invoiceapp.client.application.mapper.ClientMapper;
+import com.invoiceapp.client.domain.entity.Client;
+import com.invoiceapp.client.infrastructure.repository.ClientRepository;
+import com.invoiceapp.common.exception.BadRequestException;
+import com.invoiceapp.invoice.application.mapper.InvoiceMapper;
+import com.invoiceapp.invoice.domain.entity.Invoice;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceRepository;
+import com.invoiceapp.product.application.mapper.ProductMapper;
+import com.invoiceapp.product.domain.entity.Product;
+import com.invoiceapp.product.infrastructure.repository.ProductRepository;
+import com.invoiceapp.search.application.service.SearchService;
+import com.invoiceapp.search.infrastructure.repository.SearchRepository;
+import com.invoiceapp.search.infrastructure.repository.SearchRepository.SearchHit;
+import com.invoiceapp.search.presentation.dto.response.SearchResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchServiceImpl implements SearchService {
+
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_LIMIT = 50;
+
+    private final SearchRepository searchRepository;
+    private final InvoiceRepository invoiceRepository;
+    private final ClientRepository clientRepository;
+    private final ProductRepository productRepository;
+    private final InvoiceMapper invoiceMapper;
+    private final ClientMapper clientMapper;
+    private final ProductMapper productMapper;
+
+    @Override
+    public SearchResponse search(UUID userId, String query, int limit) {
+        String term = query != null ? query.trim() : "";
+        if (term.length() < MIN_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        return SearchResponse.builder()
+                .invoices(inRankOrder(searchRepository.searchInvoices(userId, term, cappedLimit),
+                        ids -> invoiceRepository.findAllWithClientAndItemsByIdIn(ids).stream()
+                                .collect(Collectors.toMap(Invoice::getId, invoiceMapper::toResponse))))
+                .clients(inRankOrder(searchRepository.searchClients(userId, term, cappedLimit),
+                        ids -> clientRepository.findAllById(ids).stream()
+                                .collect(Collectors.toMap(Client::getId, clientMapper::toResponse))))
+                .products(inRankOrder(searchRepository.searchProducts(userId, term, cappedLimit),
+                        ids -> productRepository.findAllById(ids).stream()
+                                .collect(Collectors.toMap(Product::getId, productMapper::toResponse))))
+                .build();
+    }
+
+    private <T> List<T> inRankOrder(List<SearchHit> hits, Function<Collection<UUID>, Map<UUID, T>> loader) {
+        if (hits.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<UUID> ids = hits.stream().map(SearchHit::id).collect(Collectors.toList());
+        Map<UUID, T> byId = loader.apply(ids);
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,9 @@
+package com.invoiceapp.search.application.service;
+
+import com.invoiceapp.search.presentation.dto.response.SearchResponse;
+
+import java.util.UUID;
+
+public interface SearchService {
+    SearchResponse search(UUID userId, String query, int limit);
+}
@@ -0,0 +1,114 @@
+package com.invoiceapp.search.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranked lookups backed by the pg_trgm and full-text indexes. Substring and fuzzy matches on short
+ * fields use {@code ILIKE} / {@code <%} (both served by gin_trgm_ops) and rank by word similarity;
+ * invoice notes go through a {@code simple} tsvector so longer text is matched by words. Product names
+ * are searched in both {@code invoice_items} and the {@code line_items} JSONB document, since invoices
+ * written under either {@code app.invoice.line-item-storage} mode can exist side by side.
+ */
+@Repository
+public class SearchRepository {
+
+    private static final String INVOICE_SEARCH = """
+            SELECT hit.id, MAX(hit.score) AS score
+            FROM (
+                SELECT i.id, word_similarity(:term, i.invoice_number) AS score
+                FROM invoices i
+                WHERE i.user_id = :userId AND i.deleted_at IS NULL
+                  AND (i.invoice_number ILIKE :pattern OR :term <% i.invoice_number)
+                UNION ALL
+                SELECT i.id, 0.9 * GREATEST(word_similarity(:term, c.name),
+                                            word_similarity(:term, COALESCE(c.email, '')))
+                FROM clients c
+                JOIN invoices i ON i.client_id = c.id
+                WHERE c.user_id = :userId AND i.deleted_at IS NULL
+                  AND (c.name ILIKE :pattern OR c.email ILIKE :pattern
+                       OR :term <% c.name OR :term <% c.email)
+                UNION ALL
+                SELECT ii.invoice_id, 0.8 * word_similarity(:term, ii.product_name)
+                FROM invoice_items ii
+                JOIN invoices i ON i.id = ii.invoice_id
+                WHERE i.user_id = :userId AND i.deleted_at IS NULL
+                  AND (ii.product_name ILIKE :pattern OR :term <% ii.product_name)
+                UNION ALL
+                SELECT i.id, 0.8 * word_similarity(:term, invoice_line_item_names(i.line_items))
+                FROM invoices i
+                WHERE i.user_id = :userId AND i.deleted_at IS NULL AND i.line_items IS NOT NULL
+                  AND (invoice_line_item_names(i.line_items) ILIKE :pattern
+                       OR :term <% invoice_line_item_names(i.line_items))
+                UNION ALL
+                SELECT i.id, 0.7 * ts_rank(to_tsvector('simple', COALESCE(i.notes, '')),
+                                           plainto_tsquery('simple', :term))
+                FROM invoices i
+                WHERE i.user_id = :userId AND i.deleted_at IS NULL
+                  AND to_tsvector('simple', COALESCE(i.notes, '')) @@ plainto_tsquery('simple', :term)
+            ) hit
+            GROUP BY hit.id
+            ORDER BY score DESC, hit.id
+            LIMIT :limit
+            """;
+
+    private static final String CLIENT_SEARCH = """
+            SELECT c.id, GREATEST(word_similarity(:term, c.name),
+                                  word_similarity(:term, COALESCE(c.email, ''))) AS score
+            FROM clients c
+            WHERE c.user_id = :userId AND c.deleted_at IS NULL
+              AND (c.name ILIKE :pattern OR c.email ILIKE :pattern
+                   OR :term <% c.name OR :term <% c.email)
+            ORDER BY score DESC, c.id
+            LIMIT :limit
+            """;
+
+    private static final String PRODUCT_SEARCH = """
+            SELECT p.id, GREATEST(word_similarity(:term, p.name),
+                                  0.5 * word_similarity(:term, COALESCE(p.description, ''))) AS score
+            FROM products p
+            WHERE p.user_id = :userId AND p.deleted_at IS NULL
+              AND (p.name ILIKE :pattern OR :term <% p.name OR p.description ILIKE :pattern)
+            ORDER BY score DESC, p.id
+            LIMIT :limit
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<SearchHit> searchInvoices(UUID userId, String term, int limit) {
+        return search(INVOICE_SEARCH, userId, term, limit);
+    }
+
+    public List<SearchHit> searchClients(UUID userId, String term, int limit) {
+        return search(CLIENT_SEARCH, userId, term, limit);
+    }
+
+    public List<SearchHit> searchProducts(UUID userId, String term, int limit) {
+        return search(PRODUCT_SEARCH, userId, term, limit);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SearchHit> search(String sql, UUID userId, String term, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(sql)
+                .setParameter("userId", userId)
+                .setParameter("term", term)
+                .setParameter("pattern", "%" + escapeLike(term) + "%")
+                .setParameter("limit", limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new SearchHit((UUID) row[0], ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    public record SearchHit(UUID id, double score) {}
+}
@@ -0,0 +1,28 @@
+package com.invoiceapp.search.presentation.controller;
+
+import com.invoiceapp.common.dto.ApiResponse;
+import com.invoiceapp.search.application.service.SearchService;
+import com.invoiceapp.search.presentation.dto.response.SearchResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<SearchResponse>> search(
+            @RequestAttribute("userId") UUID userId,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        SearchResponse results = searchService.search(userId, query, limit);
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+}
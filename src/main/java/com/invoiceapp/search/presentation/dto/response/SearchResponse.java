@@ -0,0 +1,21 @@
+package com.invoiceapp.search.presentation.dto.response;
+
+import com.invoiceapp.client.presentation.dto.response.ClientResponse;
+import com.invoiceapp.invoice.presentation.dto.response.InvoiceResponse;
+import com.invoiceapp.product.presentation.dto.response.ProductResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResponse {
+    private List<InvoiceResponse> invoices;
+    private List<ClientResponse> clients;
+    private List<ProductResponse> products;
+}
@@ -0,0 +1,85 @@
+-- Schema as it existed before versioned migrations. Existing databases are baselined at
+-- version 1 (spring.flyway.baseline-on-migrate) and skip this script.
+
+CREATE TYPE InvoiceStatus AS ENUM (
+    'DRAFT', 'SENT', 'DUE', 'OVERDUE', 'PAID', 'CANCELLED', 'CANCELLATION_REQUESTED', 'PAYMENT_PENDING'
+);
+
+CREATE TYPE RecurringFrequency AS ENUM (
+    'DAILY', 'WEEKLY', 'BIWEEKLY', 'MONTHLY', 'QUARTERLY', 'YEARLY'
+);
+
+CREATE TYPE ProductType AS ENUM ('PRODUCT', 'SERVICE');
+
+CREATE TABLE users (
+    id           UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    email        VARCHAR(255) NOT NULL UNIQUE,
+    password     VARCHAR(255) NOT NULL,
+    name         VARCHAR(255),
+    company_name VARCHAR(255),
+    phone        VARCHAR(255),
+    address      TEXT,
+    logo_url     VARCHAR(255),
+    is_verified  BOOLEAN      NOT NULL DEFAULT FALSE,
+    deleted_at   TIMESTAMP,
+    created_at   TIMESTAMP    NOT NULL,
+    updated_at   TIMESTAMP    NOT NULL
+);
+
+CREATE TABLE clients (
+    id                   UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id              UUID         NOT NULL REFERENCES users (id),
+    name                 VARCHAR(255) NOT NULL,
+    email                VARCHAR(255),
+    phone                VARCHAR(255),
+    address              TEXT,
+    payment_preferences  VARCHAR(255),
+    deleted_at           TIMESTAMP,
+    created_at           TIMESTAMP    NOT NULL,
+    updated_at           TIMESTAMP
+);
+
+CREATE TABLE products (
+    id          UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id     UUID           NOT NULL REFERENCES users (id),
+    name        VARCHAR(255)   NOT NULL,
+    description TEXT,
+    price       NUMERIC(15, 2) NOT NULL,
+    type        ProductType    NOT NULL,
+    deleted_at  TIMESTAMP,
+    created_at  TIMESTAMP      NOT NULL,
+    updated_at  TIMESTAMP
+);
+
+CREATE TABLE invoices (
+    id                   UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id              UUID          NOT NULL REFERENCES users (id),
+    client_id            UUID          NOT NULL,
+    invoice_number       VARCHAR(255)  NOT NULL UNIQUE,
+    issue_date           DATE          NOT NULL,
+    due_date             DATE          NOT NULL,
+    status               InvoiceStatus NOT NULL,
+    subtotal             NUMERIC(15, 2),
+    tax_rate             NUMERIC(5, 2),
+    tax_amount           NUMERIC(15, 2),
+    total                NUMERIC(15, 2),
+    notes                TEXT,
+    deleted_at           TIMESTAMP,
+    created_at           TIMESTAMP     NOT NULL,
+    updated_at           TIMESTAMP,
+    is_recurring         BOOLEAN                DEFAULT FALSE,
+    recurring_frequency  RecurringFrequency,
+    next_generation_date DATE,
+    recurring_series_id  UUID
+);
+
+CREATE TABLE invoice_items (
+    id                  UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    invoice_id          UUID           NOT NULL REFERENCES invoices (id),
+    product_id          UUID           NOT NULL REFERENCES products (id),
+    product_name        VARCHAR(255)   NOT NULL,
+    product_description VARCHAR(255),
+    quantity            INTEGER        NOT NULL,
+    unit_price          NUMERIC(15, 2) NOT NULL,
+    total               NUMERIC(15, 2) NOT NULL
+);
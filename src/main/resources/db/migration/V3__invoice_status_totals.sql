@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS invoice_status_totals (
+    user_id       UUID           NOT NULL,
+    status        VARCHAR(32)    NOT NULL,
+    invoice_count BIGINT         NOT NULL,
+    total_amount  NUMERIC(15, 2) NOT NULL,
+    updated_at    TIMESTAMP      NOT NULL,
+    PRIMARY KEY (user_id, status)
+);
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS invoice_number_counters (
+    user_id      UUID    NOT NULL,
+    invoice_year INTEGER NOT NULL,
+    last_value   BIGINT  NOT NULL,
+    PRIMARY KEY (user_id, invoice_year)
+);
+
+CREATE TABLE IF NOT EXISTS invoice_user_codes (
+    user_id UUID PRIMARY KEY,
+    code    VARCHAR(16) NOT NULL UNIQUE
+);
+
+CREATE SEQUENCE IF NOT EXISTS invoice_user_code_seq;
@@ -0,0 +1,32 @@
+-- Built CONCURRENTLY so existing tables stay writable; see the matching .conf file.
+-- Partial indexes repeat the deleted_at IS NULL condition that @Where/@Filter add to every query.
+
+-- Listing and sorting: findByUserId / specifications ordered by created_at
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invoices_user_created_active
+    ON invoices (user_id, created_at DESC) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clients_user_created_active
+    ON clients (user_id, created_at DESC) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_user_created_active
+    ON products (user_id, created_at DESC) WHERE deleted_at IS NULL;
+
+-- findByStatus and the scheduler's SENT/DUE -> DUE/OVERDUE transitions
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invoices_status_due_active
+    ON invoices (status, due_date) WHERE deleted_at IS NULL;
+
+-- findByIsRecurringTrueAndNextGenerationDateLessThanEqual / findRecurringIdsDueAfter
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invoices_recurring_next_generation
+    ON invoices (next_generation_date, id) WHERE is_recurring = TRUE AND deleted_at IS NULL;
+
+-- existsByEmailAndUserId runs without the client filter, so this one is not partial
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clients_user_email
+    ON clients (user_id, email);
+
+-- Foreign keys used to load line items and resolve clients
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invoice_items_invoice
+    ON invoice_items (invoice_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invoices_client
+    ON invoices (client_id);
+
+-- Email outbox dispatcher claim query
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_email_outbox_pending
+    ON email_outbox (next_attempt_at) WHERE status = 'PENDING';
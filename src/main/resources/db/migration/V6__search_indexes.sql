@@ -0,0 +1,25 @@
+-- Trigram and full-text indexes behind /api/search and the lower(field) LIKE listing filters.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invoices_number_trgm
+    ON invoices USING gin (invoice_number gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invoices_number_lower_trgm
+    ON invoices USING gin (lower(invoice_number) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invoices_notes_fts
+    ON invoices USING gin (to_tsvector('simple', COALESCE(notes, ''))) WHERE deleted_at IS NULL;
+
+-- Not partial: invoice search still matches invoices whose client has been deleted
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clients_name_trgm
+    ON clients USING gin (name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clients_email_trgm
+    ON clients USING gin (email gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clients_name_lower_trgm
+    ON clients USING gin (lower(name) gin_trgm_ops) WHERE deleted_at IS NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_name_trgm
+    ON products USING gin (name gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_name_lower_trgm
+    ON products USING gin (lower(name) gin_trgm_ops) WHERE deleted_at IS NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invoice_items_product_name_trgm
+    ON invoice_items USING gin (product_name gin_trgm_ops);
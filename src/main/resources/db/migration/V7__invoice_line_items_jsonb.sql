@@ -0,0 +1 @@
+ALTER TABLE invoices ADD COLUMN IF NOT EXISTS line_items JSONB;
@@ -0,0 +1,5 @@
+ALTER TABLE email_outbox ADD COLUMN IF NOT EXISTS locked_until TIMESTAMP;
+
+-- Lets the dispatcher find expired leases without scanning the sent history.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_email_outbox_sending
+    ON email_outbox (locked_until) WHERE status = 'SENDING';
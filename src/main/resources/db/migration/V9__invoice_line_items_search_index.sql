@@ -0,0 +1,10 @@
+-- Product names of JSONB line items, flattened so /api/search can trigram-match them like invoice_items.
+CREATE OR REPLACE FUNCTION invoice_line_item_names(items JSONB) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE
+AS $$
+    SELECT string_agg(item ->> 'productName', ' ') FROM jsonb_array_elements(items) AS item
+$$;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invoices_line_item_names_trgm
+    ON invoices USING gin (invoice_line_item_names(line_items) gin_trgm_ops)
+    WHERE deleted_at IS NULL AND line_items IS NOT NULL;
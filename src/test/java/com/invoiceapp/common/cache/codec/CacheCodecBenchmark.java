@@ -0,0 +1,87 @@
+package com.invoiceapp.common.cache.codec;
+
+import com.invoiceapp.common.dto.PageDTO;
+import com.invoiceapp.invoice.presentation.dto.response.InvoiceResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost and payload size of a cached invoice page with the compact codecs versus the JSON
+ * serializer they replace. Run with {@code mvn test -Dgroups=benchmark -DexcludedGroups=}; the JMH run
+ * stays in the test JVM because surefire's classpath jar is not visible to forked JVMs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+@Tag("benchmark")
+@Slf4j
+public class CacheCodecBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private CompactCacheSerializer compactSerializer;
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private PageDTO<InvoiceResponse> page;
+    private byte[] compactBytes;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setUp() {
+        compactSerializer = CacheCodecFixtures.compactSerializer();
+        jsonSerializer = CacheCodecFixtures.jsonSerializer();
+        page = CacheCodecFixtures.invoicePage(pageSize, 4);
+        compactBytes = compactSerializer.serialize(page);
+        jsonBytes = jsonSerializer.serialize(page);
+
+        log.info("page-size={}: compact {} bytes, json {} bytes", pageSize, compactBytes.length, jsonBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeCompact() {
+        return compactSerializer.serialize(page);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize(page);
+    }
+
+    @Benchmark
+    public Object deserializeCompact() {
+        return compactSerializer.deserialize(compactBytes);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return jsonSerializer.deserialize(jsonBytes);
+    }
+
+    @Test
+    void runBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(CacheCodecBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,120 @@
+package com.invoiceapp.common.cache.codec;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.invoiceapp.client.infrastructure.cache.ClientResponseCacheCodec;
+import com.invoiceapp.client.presentation.dto.response.ClientResponse;
+import com.invoiceapp.common.dto.PageDTO;
+import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+import com.invoiceapp.invoice.domain.enums.RecurringFrequency;
+import com.invoiceapp.invoice.infrastructure.cache.InvoiceResponseCacheCodec;
+import com.invoiceapp.invoice.presentation.dto.response.InvoiceItemResponse;
+import com.invoiceapp.invoice.presentation.dto.response.InvoiceResponse;
+import com.invoiceapp.product.domain.enums.ProductType;
+import com.invoiceapp.product.infrastructure.cache.ProductResponseCacheCodec;
+import com.invoiceapp.product.presentation.dto.response.ProductResponse;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Serializers configured like {@code RedisConfig.cacheManager} and realistic cache values for the codec
+ * tests and benchmark.
+ */
+final class CacheCodecFixtures {
+
+    private CacheCodecFixtures() {
+    }
+
+    static GenericJackson2JsonRedisSerializer jsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    static CompactCacheSerializer compactSerializer() {
+        return new CompactCacheSerializer(
+                List.of(new InvoiceResponseCacheCodec(), new ClientResponseCacheCodec(), new ProductResponseCacheCodec()),
+                jsonSerializer());
+    }
+
+    static InvoiceResponse invoice(int index, int itemCount) {
+        return InvoiceResponse.builder()
+                .id(UUID.randomUUID())
+                .clientId(UUID.randomUUID())
+                .clientName("PT Sumber Makmur " + index)
+                .invoiceNumber("INV-U0001-2025-" + String.format("%05d", index))
+                .issueDate(LocalDate.of(2025, 3, 1))
+                .dueDate(LocalDate.of(2025, 3, 31))
+                .status(InvoiceStatus.SENT)
+                .displayStatus("Sent")
+                .items(IntStream.range(0, itemCount).mapToObj(CacheCodecFixtures::item).toList())
+                .subtotal(new BigDecimal("1500000.00"))
+                .taxRate(new BigDecimal("11.00"))
+                .taxAmount(new BigDecimal("165000.00"))
+                .total(new BigDecimal("1665000.00"))
+                .notes("Payment via bank transfer – thank you!")
+                .isRecurring(true)
+                .recurringFrequency(RecurringFrequency.MONTHLY)
+                .nextGenerationDate(LocalDate.of(2025, 4, 1))
+                .recurringSeriesId(UUID.randomUUID())
+                .createdAt(LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_456_000))
+                .updatedAt(LocalDateTime.of(2025, 3, 2, 10, 0))
+                .build();
+    }
+
+    static InvoiceItemResponse item(int index) {
+        return InvoiceItemResponse.builder()
+                .id(UUID.randomUUID())
+                .productId(UUID.randomUUID())
+                .productName("Consulting hour " + index)
+                .quantity(3)
+                .unitPrice(new BigDecimal("100000.00"))
+                .total(new BigDecimal("300000.00"))
+                .build();
+    }
+
+    static ClientResponse client(int index) {
+        return ClientResponse.builder()
+                .id(UUID.randomUUID())
+                .name("Client " + index)
+                .email("client" + index + "@example.com")
+                .phone("+62 812 0000 " + index)
+                .address("Jl. Sudirman No. " + index + ", Jakarta")
+                .paymentPreferences("BCA 1234567890")
+                .createdAt(LocalDateTime.of(2025, 1, 1, 8, 0))
+                .updatedAt(LocalDateTime.of(2025, 2, 1, 8, 0, 0, 1))
+                .build();
+    }
+
+    static ProductResponse product(int index) {
+        return ProductResponse.builder()
+                .id(UUID.randomUUID())
+                .name("Product " + index)
+                .description("Description of product " + index)
+                .price(new BigDecimal("250000.50"))
+                .type(ProductType.SERVICE)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 8, 0))
+                .updatedAt(LocalDateTime.of(2025, 1, 2, 8, 0))
+                .build();
+    }
+
+    static PageDTO<InvoiceResponse> invoicePage(int size, int itemsPerInvoice) {
+        List<InvoiceResponse> content = IntStream.range(0, size)
+                .mapToObj(i -> invoice(i, itemsPerInvoice))
+                .toList();
+        return new PageDTO<>(content, 5, 5L * size, 0, size, null, null);
+    }
+}
@@ -0,0 +1,131 @@
+package com.invoiceapp.common.cache.codec;
+
+import com.invoiceapp.client.presentation.dto.response.ClientResponse;
+import com.invoiceapp.common.dto.PageDTO;
+import com.invoiceapp.invoice.presentation.dto.response.InvoiceResponse;
+import com.invoiceapp.product.presentation.dto.response.ProductResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactCacheSerializerTest {
+
+    private final CompactCacheSerializer serializer = CacheCodecFixtures.compactSerializer();
+
+    static Stream<Object> registeredValues() {
+        return Stream.of(
+                CacheCodecFixtures.invoice(1, 3),
+                CacheCodecFixtures.invoice(2, 0),
+                InvoiceResponse.builder().id(UUID.randomUUID()).build(),
+                CacheCodecFixtures.client(1),
+                ClientResponse.builder().id(UUID.randomUUID()).build(),
+                CacheCodecFixtures.product(1),
+                ProductResponse.builder().build());
+    }
+
+    @ParameterizedTest
+    @MethodSource("registeredValues")
+    void registeredTypesRoundTrip(Object value) {
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[1]).isNotEqualTo(CompactCacheSerializer.JSON_TAG);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void pageOfRegisteredTypeRoundTripsWithItsMetadata() {
+        PageDTO<InvoiceResponse> page = CacheCodecFixtures.invoicePage(20, 4);
+        page.setNextCursor("eyJpZCI6IjEyMyJ9");
+        page.setHasNext(true);
+
+        byte[] bytes = serializer.serialize(page);
+
+        assertThat(bytes[1]).isEqualTo(CompactCacheSerializer.PAGE_TAG);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(page);
+    }
+
+    @Test
+    void emptyPageRoundTrips() {
+        PageDTO<Object> page = new PageDTO<>(List.of(), 0, 0L, 0, 20, null, false);
+
+        byte[] bytes = serializer.serialize(page);
+
+        assertThat(bytes[1]).isEqualTo(CompactCacheSerializer.PAGE_TAG);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(page);
+    }
+
+    @Test
+    void pageWithMixedElementTypesFallsBackToJson() {
+        List<Object> content = new ArrayList<>();
+        content.add(CacheCodecFixtures.client(1));
+        content.add(CacheCodecFixtures.product(1));
+        PageDTO<Object> page = new PageDTO<>(content, 1, 2L, 0, 20, null, null);
+
+        byte[] bytes = serializer.serialize(page);
+
+        assertThat(bytes[1]).isEqualTo(CompactCacheSerializer.JSON_TAG);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(page);
+    }
+
+    @Test
+    void unregisteredTypeFallsBackToJson() {
+        byte[] bytes = serializer.serialize("plain value");
+
+        assertThat(bytes[1]).isEqualTo(CompactCacheSerializer.JSON_TAG);
+        assertThat(serializer.deserialize(bytes)).isEqualTo("plain value");
+    }
+
+    @Test
+    void otherFormatVersionReadsAsCacheMiss() {
+        byte[] bytes = serializer.serialize(CacheCodecFixtures.client(1));
+        bytes[0] = (byte) (CompactCacheSerializer.FORMAT_VERSION + 1);
+
+        assertThat(serializer.deserialize(bytes)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    void compactPageIsSmallerThanJson() {
+        PageDTO<InvoiceResponse> page = CacheCodecFixtures.invoicePage(20, 4);
+
+        int compactSize = serializer.serialize(page).length;
+        int jsonSize = CacheCodecFixtures.jsonSerializer().serialize(page).length;
+
+        assertThat(compactSize).isLessThan(jsonSize);
+    }
+
+    @Test
+    void rejectsReservedAndDuplicateTags() {
+        assertThatThrownBy(() -> new CompactCacheSerializer(
+                List.of(new FixedTagCodec(CompactCacheSerializer.PAGE_TAG)), CacheCodecFixtures.jsonSerializer()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new CompactCacheSerializer(
+                List.of(new FixedTagCodec((byte) 0x40), new FixedTagCodec((byte) 0x40)), CacheCodecFixtures.jsonSerializer()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private record FixedTagCodec(byte tag) implements CacheCodec<String> {
+
+        @Override
+        public Class<String> type() {
+            return String.class;
+        }
+
+        @Override
+        public void write(String value, CodecWriter writer) {
+        }
+
+        @Override
+        public String read(CodecReader reader) {
+            return null;
+        }
+    }
+}
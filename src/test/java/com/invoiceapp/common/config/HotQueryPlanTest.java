@@ -0,0 +1,111 @@
+package com.invoiceapp.common.config;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the predicates of the hot queries still match the partial and expression indexes from the
+ * migrations. Sequential scans are disabled for the transaction so the planner picks an index whenever one
+ * is usable, regardless of how little data the test database holds. Needs the application's Postgres and Redis.
+ */
+@SpringBootTest
+class HotQueryPlanTest {
+
+    private static final String USER_ID = "'00000000-0000-7000-8000-000000000001'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("idx_invoices_user_created_active", """
+                        SELECT id FROM invoices
+                        WHERE user_id = %s AND deleted_at IS NULL
+                        ORDER BY created_at DESC LIMIT 20
+                        """.formatted(USER_ID)),
+                Arguments.of("idx_clients_user_created_active", """
+                        SELECT id FROM clients
+                        WHERE user_id = %s AND deleted_at IS NULL
+                        ORDER BY created_at DESC LIMIT 20
+                        """.formatted(USER_ID)),
+                Arguments.of("idx_products_user_created_active", """
+                        SELECT id FROM products
+                        WHERE user_id = %s AND deleted_at IS NULL
+                        ORDER BY created_at DESC LIMIT 20
+                        """.formatted(USER_ID)),
+                Arguments.of("idx_invoices_status_due_active", """
+                        SELECT id FROM invoices
+                        WHERE status = 'SENT' AND due_date < current_date AND deleted_at IS NULL
+                        LIMIT 500
+                        """),
+                Arguments.of("idx_invoices_recurring_next_generation", """
+                        SELECT id FROM invoices
+                        WHERE is_recurring = TRUE AND next_generation_date <= current_date
+                          AND created_at < now() AND deleted_at IS NULL
+                          AND id > '00000000-0000-0000-0000-000000000000'
+                        ORDER BY id LIMIT 100
+                        """),
+                Arguments.of("idx_clients_user_email", """
+                        SELECT 1 FROM clients WHERE user_id = %s AND email = 'client@example.com'
+                        """.formatted(USER_ID)),
+                Arguments.of("idx_invoice_items_invoice", """
+                        SELECT id FROM invoice_items WHERE invoice_id = %s
+                        """.formatted(USER_ID)),
+                Arguments.of("idx_email_outbox_pending", """
+                        SELECT id FROM email_outbox
+                        WHERE (status = 'PENDING' AND next_attempt_at <= now())
+                           OR (status = 'SENDING' AND locked_until <= now())
+                        """),
+                Arguments.of("idx_email_outbox_sending", """
+                        SELECT id FROM email_outbox
+                        WHERE (status = 'PENDING' AND next_attempt_at <= now())
+                           OR (status = 'SENDING' AND locked_until <= now())
+                        """),
+                Arguments.of("idx_invoices_number_trgm", """
+                        SELECT id FROM invoices WHERE deleted_at IS NULL AND invoice_number ILIKE '%inv-2025%'
+                        """),
+                Arguments.of("idx_invoices_notes_fts", """
+                        SELECT id FROM invoices
+                        WHERE deleted_at IS NULL
+                          AND to_tsvector('simple', COALESCE(notes, '')) @@ plainto_tsquery('simple', 'consulting')
+                        """),
+                Arguments.of("idx_clients_name_trgm", """
+                        SELECT id FROM clients WHERE name ILIKE '%acme%'
+                        """),
+                Arguments.of("idx_invoice_items_product_name_trgm", """
+                        SELECT id FROM invoice_items WHERE product_name ILIKE '%consulting%'
+                        """),
+                Arguments.of("idx_invoices_line_item_names_trgm", """
+                        SELECT id FROM invoices
+                        WHERE deleted_at IS NULL AND line_items IS NOT NULL
+                          AND invoice_line_item_names(line_items) ILIKE '%consulting%'
+                        """)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesIndex(String index, String sql) {
+        assertThat(SchemaIndexVerifier.REQUIRED_INDEXES).contains(index);
+
+        List<String> plan = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        });
+
+        assertThat(String.join("\n", plan)).contains(index);
+    }
+}
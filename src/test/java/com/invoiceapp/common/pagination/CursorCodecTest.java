@@ -0,0 +1,107 @@
+package com.invoiceapp.common.pagination;
+
+import com.invoiceapp.common.exception.BadRequestException;
+import com.invoiceapp.invoice.domain.entity.Invoice;
+import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CursorCodecTest {
+
+    private static final Map<String, Class<?>> INVOICE_ATTRIBUTES = Map.of(
+            "id", UUID.class,
+            "createdAt", LocalDateTime.class,
+            "issueDate", LocalDate.class,
+            "dueDate", LocalDate.class,
+            "total", BigDecimal.class,
+            "invoiceNumber", String.class,
+            "status", InvoiceStatus.class
+    );
+
+    private CursorCodec cursorCodec;
+
+    @BeforeEach
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void setUp() {
+        EntityManager entityManager = mock(EntityManager.class);
+        Metamodel metamodel = mock(Metamodel.class);
+        EntityType entityType = mock(EntityType.class);
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        when(metamodel.entity(Invoice.class)).thenReturn(entityType);
+
+        INVOICE_ATTRIBUTES.forEach((name, type) -> {
+            Attribute attribute = mock(Attribute.class);
+            when(attribute.getJavaType()).thenReturn(type);
+            when(entityType.getAttribute(name)).thenReturn(attribute);
+        });
+
+        cursorCodec = new CursorCodec(entityManager);
+    }
+
+    static Stream<Arguments> sortableValues() {
+        return Stream.of(
+                Arguments.of("createdAt", LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000)),
+                Arguments.of("issueDate", LocalDate.of(2025, 1, 31)),
+                Arguments.of("dueDate", LocalDate.of(2025, 2, 28)),
+                Arguments.of("total", new BigDecimal("1234.50")),
+                Arguments.of("invoiceNumber", "U0001-2025-0042"),
+                Arguments.of("status", InvoiceStatus.OVERDUE),
+                Arguments.of("id", UUID.randomUUID())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("sortableValues")
+    void roundTripsEverySortableAttributeType(String property, Object value) {
+        Sort sort = cursorCodec.keysetSort(property, "desc");
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(property, value);
+        keys.putIfAbsent("id", UUID.randomUUID());
+
+        String cursor = cursorCodec.encode(ScrollPosition.forward(keys), sort);
+        KeysetScrollPosition decoded = cursorCodec.decode(cursor, sort, Invoice.class);
+
+        assertThat(decoded.getKeys()).isEqualTo(keys);
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherSort() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("dueDate", LocalDate.of(2025, 2, 28));
+        keys.put("id", UUID.randomUUID());
+        String cursor = cursorCodec.encode(ScrollPosition.forward(keys), cursorCodec.keysetSort("dueDate", "asc"));
+
+        assertThatThrownBy(() -> cursorCodec.decode(cursor, cursorCodec.keysetSort("dueDate", "desc"), Invoice.class))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void blankCursorStartsFromTheBeginning() {
+        assertThat(cursorCodec.decode(null, cursorCodec.keysetSort("createdAt", "desc"), Invoice.class).isInitial())
+                .isTrue();
+    }
+}
@@ -0,0 +1,171 @@
+package com.invoiceapp.common.persistence;
+
+import com.invoiceapp.auth.domain.entity.User;
+import com.invoiceapp.auth.infrastructure.repositories.UserRepository;
+import com.invoiceapp.client.domain.entity.Client;
+import com.invoiceapp.client.infrastructure.repository.ClientRepository;
+import com.invoiceapp.invoice.domain.entity.Invoice;
+import com.invoiceapp.invoice.domain.entity.InvoiceItem;
+import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceRepository;
+import com.invoiceapp.product.domain.entity.Product;
+import com.invoiceapp.product.domain.enums.ProductType;
+import com.invoiceapp.product.infrastructure.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Measures invoice insert throughput with Hibernate JDBC batching switched off for the session (one
+ * statement per row, as before user-025) and with the configured batch size. Needs the application's
+ * Postgres and Redis; run with {@code mvn test -Dgroups=benchmark -DexcludedGroups=}.
+ */
+@SpringBootTest
+@Tag("benchmark")
+@Slf4j
+class JdbcBatchingBenchmarkTest {
+
+    private static final int INVOICES = 1_000;
+    private static final int ITEMS_PER_INVOICE = 5;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Client client;
+    private Product product;
+    private String suffix;
+    private int invoiceCounter;
+
+    @BeforeEach
+    void seedOwner() {
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            user = userRepository.save(User.builder()
+                    .email("batching-" + suffix + "@example.com")
+                    .password("not-used")
+                    .name("Batching")
+                    .isVerified(true)
+                    .build());
+
+            client = clientRepository.save(Client.builder()
+                    .user(user)
+                    .name("Client " + suffix)
+                    .email("client-" + suffix + "@example.com")
+                    .build());
+
+            product = productRepository.save(Product.builder()
+                    .user(user)
+                    .name("Consulting")
+                    .price(new BigDecimal("100000"))
+                    .type(ProductType.SERVICE)
+                    .build());
+        });
+    }
+
+    @AfterEach
+    void deleteOwner() {
+        deleteInvoices();
+        jdbcTemplate.update("DELETE FROM products WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM clients WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+    }
+
+    @ParameterizedTest(name = "batch size {0}")
+    @ValueSource(ints = {1, 50})
+    void measureInsertThroughput(int batchSize) {
+        insertInvoices(batchSize);
+        deleteInvoices();
+
+        long elapsedNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long startedAt = System.nanoTime();
+            insertInvoices(batchSize);
+            elapsedNanos += System.nanoTime() - startedAt;
+            deleteInvoices();
+        }
+
+        long rows = (long) ROUNDS * INVOICES * (1 + ITEMS_PER_INVOICE);
+        log.info("JDBC batch size {}: {} rows/s", batchSize,
+                String.format("%.0f", rows / (elapsedNanos / 1_000_000_000.0)));
+    }
+
+    private void insertInvoices(int batchSize) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+            List<Invoice> invoices = new ArrayList<>(INVOICES);
+            for (int i = 0; i < INVOICES; i++) {
+                invoices.add(newInvoice());
+            }
+            invoiceRepository.saveAll(invoices);
+            invoiceRepository.flush();
+        });
+    }
+
+    private Invoice newInvoice() {
+        Invoice invoice = Invoice.builder()
+                .user(user)
+                .client(client)
+                .invoiceNumber("JB-" + suffix + "-" + invoiceCounter++)
+                .issueDate(LocalDate.now())
+                .dueDate(LocalDate.now().plusDays(14))
+                .status(InvoiceStatus.SENT)
+                .isRecurring(false)
+                .taxRate(BigDecimal.ZERO)
+                .build();
+
+        for (int i = 0; i < ITEMS_PER_INVOICE; i++) {
+            invoice.addItem(InvoiceItem.builder()
+                    .product(product)
+                    .productName(product.getName())
+                    .quantity(1)
+                    .unitPrice(product.getPrice())
+                    .total(product.getPrice())
+                    .build());
+        }
+        invoice.calculateTotals();
+        return invoice;
+    }
+
+    private void deleteInvoices() {
+        jdbcTemplate.update("DELETE FROM invoice_items WHERE invoice_id IN (SELECT id FROM invoices WHERE user_id = ?)",
+                user.getId());
+        jdbcTemplate.update("DELETE FROM invoices WHERE user_id = ?", user.getId());
+    }
+}
@@ -0,0 +1,79 @@
+package com.invoiceapp.common.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void setsVersionAndVariantBits() {
+        for (int i = 0; i < 1_000; i++) {
+            UUID uuid = UuidV7Generator.next();
+
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void embedsTheCurrentUnixTimeInMilliseconds() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.next();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+
+        // Sequence overflow in earlier bursts may have pushed the clock a few milliseconds ahead
+        assertThat(timestamp).isBetween(before, System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    void isStrictlyIncreasingWithinAThreadEvenInTheSameMillisecond() {
+        UUID previous = UuidV7Generator.next();
+
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = UuidV7Generator.next();
+
+            assertThat(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .as("%s must sort after %s", current, previous)
+                    .isPositive();
+            assertThat(current.toString()).isGreaterThan(previous.toString());
+            previous = current;
+        }
+    }
+
+    @Test
+    void isUniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 25_000;
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        generated.add(UuidV7Generator.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(generated).hasSize(threads * perThread);
+    }
+}
@@ -0,0 +1,163 @@
+package com.invoiceapp.dashboard.application.implement;
+
+import com.invoiceapp.common.specification.BaseSpecification;
+import com.invoiceapp.invoice.application.service.InvoiceSummaryService;
+import com.invoiceapp.invoice.domain.entity.Invoice;
+import com.invoiceapp.invoice.domain.entity.InvoiceStatusTotal;
+import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceRepository;
+import com.invoiceapp.invoice.infrastructure.repository.projection.InvoiceStatusAggregate;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Times the dashboard invoice stats for one user at 10k, 100k and 1M invoices along the three paths the
+ * code has taken: loading every invoice entity and folding in Java (before user-010), the per-status
+ * GROUP BY aggregate (user-010) and the incrementally maintained {@code invoice_status_totals} rows
+ * (user-011). Needs the application's Postgres and Redis; run with
+ * {@code mvn test -Dgroups=benchmark -DexcludedGroups=}.
+ */
+@SpringBootTest
+@Tag("benchmark")
+@Slf4j
+class DashboardStatsBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int ROUNDS = 20;
+    private static final int ENTITY_LOAD_ROUNDS = 3;
+
+    @Autowired
+    private InvoiceSummaryService invoiceSummaryService;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+
+    @AfterEach
+    void deleteInvoices() {
+        jdbcTemplate.update("DELETE FROM invoice_status_totals WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM invoices WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM clients WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @ParameterizedTest(name = "{0} invoices")
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void compareDashboardStatsPaths(int invoices) {
+        seedInvoices(invoices);
+
+        Supplier<Map<InvoiceStatus, Bucket>> entityLoad = () -> transactionTemplate.execute(status -> {
+            Map<InvoiceStatus, Bucket> buckets = new EnumMap<>(InvoiceStatus.class);
+            for (Invoice invoice : invoiceRepository.findAll(BaseSpecification.<Invoice>withUserId(userId, "user"))) {
+                buckets.merge(invoice.getStatus(), new Bucket(1, invoice.getTotal()), Bucket::plus);
+            }
+            return buckets;
+        });
+        Supplier<Map<InvoiceStatus, Bucket>> groupBy = () -> transactionTemplate.execute(status -> {
+            Map<InvoiceStatus, Bucket> buckets = new EnumMap<>(InvoiceStatus.class);
+            for (InvoiceStatusAggregate aggregate : invoiceRepository.aggregateByStatusForUser(userId)) {
+                buckets.put(aggregate.getStatus(), new Bucket(aggregate.getInvoiceCount(), aggregate.getTotalAmount()));
+            }
+            return buckets;
+        });
+        Supplier<Map<InvoiceStatus, Bucket>> summaryTable = () -> {
+            Map<InvoiceStatus, Bucket> buckets = new EnumMap<>(InvoiceStatus.class);
+            for (InvoiceStatusTotal total : invoiceSummaryService.getTotals(userId)) {
+                buckets.put(total.getId().getStatus(), new Bucket(total.getInvoiceCount(), total.getTotalAmount()));
+            }
+            return buckets;
+        };
+
+        Map<InvoiceStatus, Bucket> expected = groupBy.get();
+        assertThat(entityLoad.get()).isEqualTo(expected);
+        assertThat(summaryTable.get()).isEqualTo(expected);
+
+        double entityLoadMillis = time(entityLoad, ENTITY_LOAD_ROUNDS);
+        double groupByMillis = time(groupBy, ROUNDS);
+        double summaryTableMillis = time(summaryTable, ROUNDS);
+
+        log.info("{} invoices: entity load {} ms, GROUP BY aggregate {} ms, summary table {} ms",
+                invoices, String.format("%.3f", entityLoadMillis), String.format("%.3f", groupByMillis),
+                String.format("%.3f", summaryTableMillis));
+    }
+
+    private void seedInvoices(int invoices) {
+        userId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        String suffix = userId.toString().substring(0, 8);
+
+        jdbcTemplate.update("INSERT INTO users (id, email, password, is_verified, created_at, updated_at) "
+                + "VALUES (?, ?, 'not-used', TRUE, now(), now())", userId, "dashboard-" + suffix + "@example.com");
+        jdbcTemplate.update("INSERT INTO clients (id, user_id, name, created_at) VALUES (?, ?, ?, now())",
+                clientId, userId, "Client " + suffix);
+
+        jdbcTemplate.update("""
+                INSERT INTO invoices (user_id, client_id, invoice_number, issue_date, due_date, status,
+                                      subtotal, tax_rate, tax_amount, total, created_at)
+                SELECT ?, ?, 'DB-' || ? || '-' || g, current_date, current_date + 14,
+                       (ARRAY['SENT', 'DUE', 'OVERDUE', 'PAID', 'DRAFT']::InvoiceStatus[])[1 + g % 5],
+                       100000, 0, 0, 100000, now()
+                FROM generate_series(1, ?) AS g
+                """, userId, clientId, suffix, invoices);
+
+        jdbcTemplate.update("""
+                INSERT INTO invoice_status_totals (user_id, status, invoice_count, total_amount, updated_at)
+                SELECT user_id, status::text, count(*), sum(total), now()
+                FROM invoices
+                WHERE user_id = ? AND deleted_at IS NULL
+                GROUP BY user_id, status
+                """, userId);
+        jdbcTemplate.execute("ANALYZE invoices");
+    }
+
+    private static double time(Supplier<?> path, int rounds) {
+        for (int i = 0; i < Math.min(WARMUP_ROUNDS, rounds); i++) {
+            path.get();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            path.get();
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / rounds;
+    }
+
+    private record Bucket(long count, BigDecimal amount) {
+
+        Bucket plus(Bucket other) {
+            return new Bucket(count + other.count, amount.add(other.amount));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Bucket other && count == other.count && amount.compareTo(other.amount) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(count);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.invoiceapp.invoice.application.helper;
+
+import com.invoiceapp.auth.domain.entity.User;
+import com.invoiceapp.auth.infrastructure.repositories.UserRepository;
+import com.invoiceapp.client.domain.entity.Client;
+import com.invoiceapp.client.infrastructure.repository.ClientRepository;
+import com.invoiceapp.invoice.domain.entity.Invoice;
+import com.invoiceapp.invoice.domain.entity.InvoiceItem;
+import com.invoiceapp.invoice.domain.entity.InvoiceLineItem;
+import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceRepository;
+import com.invoiceapp.product.domain.entity.Product;
+import com.invoiceapp.product.domain.enums.ProductType;
+import com.invoiceapp.product.infrastructure.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares writing, reading and editing invoices with 1, 50 and 500 lines stored as {@code invoice_items}
+ * rows versus the {@code line_items} JSONB document. Needs the application's Postgres and Redis; run with
+ * {@code mvn test -Dgroups=benchmark -DexcludedGroups=}.
+ */
+@SpringBootTest
+@Tag("benchmark")
+@Slf4j
+class InvoiceLineItemStorageBenchmarkTest {
+
+    private static final int INVOICES = 50;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Client client;
+    private Product product;
+    private String suffix;
+    private int invoiceCounter;
+
+    @BeforeEach
+    void seedOwner() {
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            user = userRepository.save(User.builder()
+                    .email("line-items-" + suffix + "@example.com")
+                    .password("not-used")
+                    .name("Line Items")
+                    .isVerified(true)
+                    .build());
+
+            client = clientRepository.save(Client.builder()
+                    .user(user)
+                    .name("Client " + suffix)
+                    .email("client-" + suffix + "@example.com")
+                    .build());
+
+            product = productRepository.save(Product.builder()
+                    .user(user)
+                    .name("Consulting")
+                    .price(new BigDecimal("100000"))
+                    .type(ProductType.SERVICE)
+                    .build());
+        });
+    }
+
+    @AfterEach
+    void deleteOwner() {
+        deleteInvoices();
+        jdbcTemplate.update("DELETE FROM products WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM clients WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+    }
+
+    @ParameterizedTest(name = "{0} lines")
+    @ValueSource(ints = {1, 50, 500})
+    void compareStorageLayouts(int lines) {
+        for (Layout layout : Layout.values()) {
+            runRound(layout, lines);
+        }
+
+        Map<Layout, Timings> totals = new EnumMap<>(Layout.class);
+        for (int round = 0; round < ROUNDS; round++) {
+            for (Layout layout : Layout.values()) {
+                totals.merge(layout, runRound(layout, lines), Timings::plus);
+            }
+        }
+
+        double perInvoice = 1_000_000.0 * ROUNDS * INVOICES;
+        totals.forEach((layout, timings) -> log.info(
+                "{} lines, {}: write {} ms, read {} ms, edit one line {} ms per invoice",
+                lines, layout.name().toLowerCase(),
+                String.format("%.3f", timings.writeNanos() / perInvoice),
+                String.format("%.3f", timings.readNanos() / perInvoice),
+                String.format("%.3f", timings.editNanos() / perInvoice)));
+    }
+
+    private Timings runRound(Layout layout, int lines) {
+        long startedAt = System.nanoTime();
+        List<UUID> ids = transactionTemplate.execute(status -> {
+            List<Invoice> invoices = new ArrayList<>(INVOICES);
+            for (int i = 0; i < INVOICES; i++) {
+                invoices.add(newInvoice(layout, lines));
+            }
+            invoiceRepository.saveAll(invoices);
+            invoiceRepository.flush();
+            return invoices.stream().map(Invoice::getId).toList();
+        });
+        long writeNanos = System.nanoTime() - startedAt;
+
+        startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(invoiceRepository.findAllWithClientAndItemsByIdIn(ids))
+                        .hasSize(INVOICES)
+                        .allSatisfy(invoice -> assertThat(invoice.currentLineItems()).hasSize(lines)));
+        long readNanos = System.nanoTime() - startedAt;
+
+        startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Invoice invoice : invoiceRepository.findAllWithClientAndItemsByIdIn(ids)) {
+                editFirstLine(layout, invoice);
+            }
+            invoiceRepository.flush();
+        });
+        long editNanos = System.nanoTime() - startedAt;
+
+        deleteInvoices();
+        return new Timings(writeNanos, readNanos, editNanos);
+    }
+
+    private Invoice newInvoice(Layout layout, int lines) {
+        Invoice invoice = Invoice.builder()
+                .user(user)
+                .client(client)
+                .invoiceNumber("LI-" + suffix + "-" + invoiceCounter++)
+                .issueDate(LocalDate.now())
+                .dueDate(LocalDate.now().plusDays(14))
+                .status(InvoiceStatus.SENT)
+                .isRecurring(false)
+                .taxRate(BigDecimal.ZERO)
+                .build();
+
+        List<InvoiceLineItem> lineItems = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            lineItems.add(InvoiceLineItem.of(product, 1));
+        }
+
+        if (layout == Layout.JSONB) {
+            invoice.setLineItems(lineItems);
+        } else {
+            for (InvoiceLineItem line : lineItems) {
+                invoice.addItem(InvoiceItem.builder()
+                        .product(product)
+                        .productName(line.getProductName())
+                        .quantity(line.getQuantity())
+                        .unitPrice(line.getUnitPrice())
+                        .total(line.getTotal())
+                        .build());
+            }
+        }
+        invoice.calculateTotals();
+        return invoice;
+    }
+
+    private static void editFirstLine(Layout layout, Invoice invoice) {
+        if (layout == Layout.JSONB) {
+            List<InvoiceLineItem> lineItems = new ArrayList<>(invoice.getLineItems());
+            lineItems.set(0, lineItems.get(0).withQuantity(2));
+            invoice.setLineItems(lineItems);
+        } else {
+            InvoiceItem item = invoice.getItems().get(0);
+            item.setQuantity(2);
+            item.setTotal(item.getUnitPrice().multiply(BigDecimal.valueOf(2)));
+        }
+        invoice.calculateTotals();
+    }
+
+    private void deleteInvoices() {
+        jdbcTemplate.update("DELETE FROM invoice_items WHERE invoice_id IN (SELECT id FROM invoices WHERE user_id = ?)",
+                user.getId());
+        jdbcTemplate.update("DELETE FROM invoices WHERE user_id = ?", user.getId());
+    }
+
+    private enum Layout {
+        TABLE, JSONB
+    }
+
+    private record Timings(long writeNanos, long readNanos, long editNanos) {
+
+        Timings plus(Timings other) {
+            return new Timings(writeNanos + other.writeNanos, readNanos + other.readNanos,
+                    editNanos + other.editNanos);
+        }
+    }
+}
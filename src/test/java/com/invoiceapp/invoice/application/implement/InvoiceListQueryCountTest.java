@@ -0,0 +1,149 @@
+package com.invoiceapp.invoice.application.implement;
+
+import com.invoiceapp.auth.domain.entity.User;
+import com.invoiceapp.auth.infrastructure.repositories.UserRepository;
+import com.invoiceapp.client.domain.entity.Client;
+import com.invoiceapp.client.infrastructure.repository.ClientRepository;
+import com.invoiceapp.common.dto.PageDTO;
+import com.invoiceapp.invoice.application.service.InvoiceService;
+import com.invoiceapp.invoice.domain.entity.Invoice;
+import com.invoiceapp.invoice.domain.entity.InvoiceItem;
+import com.invoiceapp.invoice.domain.enums.InvoiceStatus;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceRepository;
+import com.invoiceapp.invoice.presentation.dto.response.InvoiceResponse;
+import com.invoiceapp.product.domain.entity.Product;
+import com.invoiceapp.product.domain.enums.ProductType;
+import com.invoiceapp.product.infrastructure.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the invoice list against N+1 loading: a page costs the id query, the count query and one
+ * fetch-join query however many invoices and items it contains. Needs the application's Postgres and Redis.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class InvoiceListQueryCountTest {
+
+    private static final int INVOICES = 25;
+    private static final int ITEMS_PER_INVOICE = 3;
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+
+    @BeforeEach
+    void seedInvoices() {
+        userId = transactionTemplate.execute(status -> {
+            String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+            User user = userRepository.save(User.builder()
+                    .email("query-count-" + suffix + "@example.com")
+                    .password("not-used")
+                    .name("Query Count")
+                    .isVerified(true)
+                    .build());
+
+            Client client = clientRepository.save(Client.builder()
+                    .user(user)
+                    .name("Client " + suffix)
+                    .email("client-" + suffix + "@example.com")
+                    .build());
+
+            Product product = productRepository.save(Product.builder()
+                    .user(user)
+                    .name("Consulting")
+                    .price(new BigDecimal("100000"))
+                    .type(ProductType.SERVICE)
+                    .build());
+
+            for (int i = 0; i < INVOICES; i++) {
+                Invoice invoice = Invoice.builder()
+                        .user(user)
+                        .client(client)
+                        .invoiceNumber("QC-" + suffix + "-" + i)
+                        .issueDate(LocalDate.now())
+                        .dueDate(LocalDate.now().plusDays(14))
+                        .status(InvoiceStatus.SENT)
+                        .isRecurring(false)
+                        .subtotal(new BigDecimal("300000"))
+                        .taxRate(BigDecimal.ZERO)
+                        .taxAmount(BigDecimal.ZERO)
+                        .total(new BigDecimal("300000"))
+                        .build();
+
+                for (int j = 0; j < ITEMS_PER_INVOICE; j++) {
+                    invoice.addItem(InvoiceItem.builder()
+                            .product(product)
+                            .productName(product.getName())
+                            .quantity(1)
+                            .unitPrice(product.getPrice())
+                            .total(product.getPrice())
+                            .build());
+                }
+                invoiceRepository.save(invoice);
+            }
+
+            return user.getId();
+        });
+    }
+
+    @AfterEach
+    void deleteInvoices() {
+        jdbcTemplate.update("DELETE FROM invoice_items WHERE invoice_id IN (SELECT id FROM invoices WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM invoices WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM products WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM clients WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void getAllInvoicesUsesAFixedNumberOfStatements(int pageSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PageDTO<InvoiceResponse> page = invoiceService.getAllInvoices(
+                userId, 0, pageSize, "createdAt", "desc", null, null, null, null, null);
+
+        assertThat(page.getContent()).hasSize(pageSize);
+        assertThat(page.getContent()).allSatisfy(invoice -> assertThat(invoice.getItems()).hasSize(ITEMS_PER_INVOICE));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
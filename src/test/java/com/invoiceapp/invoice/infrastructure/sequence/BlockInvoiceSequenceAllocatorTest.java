@@ -0,0 +1,131 @@
+package com.invoiceapp.invoice.infrastructure.sequence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlockInvoiceSequenceAllocatorTest {
+
+    private static final int THREADS = 16;
+    private static final int CALLS_PER_THREAD = 1_000;
+    private static final int YEAR = 2025;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 50})
+    void concurrentCallersNeverReceiveTheSameNumber(int blockSize) throws Exception {
+        CountingAllocator allocator = new CountingAllocator(blockSize);
+        UUID userId = UUID.randomUUID();
+        Set<Long> numbers = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                        if (!numbers.add(allocator.nextSequence(userId, YEAR))) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int total = THREADS * CALLS_PER_THREAD;
+        assertThat(duplicates).hasValue(0);
+        assertThat(numbers).hasSize(total);
+        assertThat(numbers).allSatisfy(number -> assertThat(number).isBetween(1L, (long) total));
+        assertThat(allocator.reservations.get()).isEqualTo((total + blockSize - 1) / blockSize);
+    }
+
+    @Test
+    void sequencesAreKeptPerUserAndYear() {
+        CountingAllocator allocator = new CountingAllocator(10);
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+
+        assertThat(allocator.nextSequence(userId, YEAR)).isEqualTo(1);
+        assertThat(allocator.nextSequence(userId, YEAR)).isEqualTo(2);
+        assertThat(allocator.nextSequence(otherUserId, YEAR)).isEqualTo(1);
+        assertThat(allocator.nextSequence(userId, YEAR + 1)).isEqualTo(1);
+    }
+
+    @Test
+    void releasingUnusedBlocksHandsBackTheRemainder() {
+        CountingAllocator allocator = new CountingAllocator(10);
+        UUID userId = UUID.randomUUID();
+
+        allocator.nextSequence(userId, YEAR);
+        allocator.nextSequence(userId, YEAR);
+        allocator.releaseUnusedBlocks();
+
+        assertThat(allocator.counters.get(userId + ":" + YEAR).get()).isEqualTo(2);
+        assertThat(allocator.nextSequence(userId, YEAR)).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsBlockSizeBelowOne() {
+        assertThatThrownBy(() -> new CountingAllocator(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Stands in for the Redis/Postgres counter: {@code reserveBlock} behaves like an atomic
+     * {@code INCRBY block-size}.
+     */
+    private static final class CountingAllocator extends BlockInvoiceSequenceAllocator {
+
+        private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+        private final AtomicInteger reservations = new AtomicInteger();
+
+        CountingAllocator(int blockSize) {
+            super(blockSize);
+        }
+
+        @Override
+        public String getUserCode(UUID userId) {
+            return "U0001";
+        }
+
+        @Override
+        protected long reserveBlock(UUID userId, int year) {
+            reservations.incrementAndGet();
+            return counter(userId, year).addAndGet(blockSize);
+        }
+
+        @Override
+        protected boolean releaseBlock(UUID userId, int year, long expectedLast, long releasedLast) {
+            return counter(userId, year).compareAndSet(expectedLast, releasedLast);
+        }
+
+        private AtomicLong counter(UUID userId, int year) {
+            return counters.computeIfAbsent(userId + ":" + year, key -> new AtomicLong());
+        }
+    }
+}
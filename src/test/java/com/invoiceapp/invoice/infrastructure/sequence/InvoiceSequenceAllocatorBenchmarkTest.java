@@ -0,0 +1,96 @@
+package com.invoiceapp.invoice.infrastructure.sequence;
+
+import com.invoiceapp.common.constants.AppConstants;
+import com.invoiceapp.invoice.domain.entity.InvoiceNumberCounterId;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceNumberCounterRepository;
+import com.invoiceapp.invoice.infrastructure.repository.InvoiceUserCodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares allocation throughput of the Redis and Postgres allocators. Needs the same Redis and
+ * Postgres as the application; run with {@code mvn test -Dgroups=benchmark -DexcludedGroups=}.
+ */
+@SpringBootTest
+@Tag("benchmark")
+@Slf4j
+class InvoiceSequenceAllocatorBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 500;
+    private static final int YEAR = 2099;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private InvoiceNumberCounterRepository counterRepository;
+
+    @Autowired
+    private InvoiceUserCodeRepository userCodeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 50})
+    void compareAllocators(int blockSize) throws Exception {
+        UUID redisUser = UUID.randomUUID();
+        UUID postgresUser = UUID.randomUUID();
+
+        try {
+            double redisRate = measure(new RedisInvoiceSequenceAllocator(redisTemplate, blockSize), redisUser);
+            double postgresRate = measure(new PostgresInvoiceSequenceAllocator(
+                    counterRepository, userCodeRepository, transactionManager, blockSize), postgresUser);
+
+            log.info("block-size={}: redis {} numbers/s, postgres {} numbers/s",
+                    blockSize, String.format("%.0f", redisRate), String.format("%.0f", postgresRate));
+        } finally {
+            redisTemplate.delete(AppConstants.REDIS_INVOICE_SEQUENCE_PREFIX + redisUser + ":" + YEAR);
+            counterRepository.deleteById(new InvoiceNumberCounterId(postgresUser, YEAR));
+        }
+    }
+
+    private double measure(BlockInvoiceSequenceAllocator allocator, UUID userId) throws Exception {
+        for (int i = 0; i < 100; i++) {
+            allocator.nextSequence(userId, YEAR);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long startedAt = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                        allocator.nextSequence(userId, YEAR);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            assertThat(allocator.nextSequence(userId, YEAR)).isGreaterThan((long) THREADS * CALLS_PER_THREAD);
+            return THREADS * CALLS_PER_THREAD / (elapsedNanos / 1_000_000_000.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
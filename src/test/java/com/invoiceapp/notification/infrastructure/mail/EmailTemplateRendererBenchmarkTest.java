@@ -0,0 +1,66 @@
+package com.invoiceapp.notification.infrastructure.mail;
+
+import com.invoiceapp.common.constants.AppConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares rendering a reminder batch once per recipient with the pre-rendered shared layout. Run with
+ * {@code mvn test -Dgroups=benchmark -DexcludedGroups=}.
+ */
+@Tag("benchmark")
+@Slf4j
+class EmailTemplateRendererBenchmarkTest {
+
+    private static final int RECIPIENTS = 500;
+    private static final int ROUNDS = 20;
+
+    @Test
+    void compareBatchRendering() {
+        EmailTemplateRenderer renderer = new EmailTemplateRenderer(EmailTemplateRendererTest.templateEngine());
+        List<Map<String, Object>> recipients = IntStream.range(0, RECIPIENTS)
+                .mapToObj(i -> EmailTemplateRendererTest.recipient(
+                        "Client " + i, "INV-2025-" + i, "https://app.test/pay?token=" + i))
+                .toList();
+
+        for (int i = 0; i < 5; i++) {
+            renderEach(renderer, recipients);
+            renderer.renderForRecipients(AppConstants.TEMPLATE_INVOICE_WITH_ACTIONS, Map.of(), recipients);
+        }
+
+        long perRecipientNanos = 0;
+        long sharedNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long startedAt = System.nanoTime();
+            List<String> expected = renderEach(renderer, recipients);
+            perRecipientNanos += System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            List<String> actual = renderer.renderForRecipients(
+                    AppConstants.TEMPLATE_INVOICE_WITH_ACTIONS, Map.of(), recipients);
+            sharedNanos += System.nanoTime() - startedAt;
+
+            assertThat(actual).isEqualTo(expected);
+        }
+
+        log.info("{} recipients: per-recipient render {} ms, shared pre-render {} ms", RECIPIENTS,
+                String.format("%.2f", perRecipientNanos / 1_000_000.0 / ROUNDS),
+                String.format("%.2f", sharedNanos / 1_000_000.0 / ROUNDS));
+    }
+
+    private static List<String> renderEach(EmailTemplateRenderer renderer, List<Map<String, Object>> recipients) {
+        List<String> documents = new ArrayList<>(recipients.size());
+        for (Map<String, Object> recipient : recipients) {
+            documents.add(renderer.render(AppConstants.TEMPLATE_INVOICE_WITH_ACTIONS, recipient));
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,70 @@
+package com.invoiceapp.notification.infrastructure.mail;
+
+import com.invoiceapp.common.constants.AppConstants;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailTemplateRendererTest {
+
+    private final EmailTemplateRenderer renderer = new EmailTemplateRenderer(templateEngine());
+
+    @Test
+    void renderForRecipientsMatchesRenderingEachRecipient() {
+        List<Map<String, Object>> recipients = List.of(
+                recipient("PT Maju & Jaya", "INV-2025-001", "https://app.test/pay?token=a&b=<c>"),
+                recipient("O'Brien \"Ltd\"", "INV-2025-002", "https://app.test/pay?token=d"),
+                recipient("Café Ünïcode", "INV-2025-003", "https://app.test/pay?token=e"));
+
+        List<String> documents = renderer.renderForRecipients(
+                AppConstants.TEMPLATE_INVOICE_WITH_ACTIONS, Map.of(), recipients);
+
+        assertThat(documents).hasSize(recipients.size());
+        for (int i = 0; i < recipients.size(); i++) {
+            assertThat(documents.get(i))
+                    .isEqualTo(renderer.render(AppConstants.TEMPLATE_INVOICE_WITH_ACTIONS, recipients.get(i)));
+        }
+    }
+
+    @Test
+    void recipientWithMissingVariableGetsNullSlot() {
+        Map<String, Object> incomplete = new HashMap<>(recipient("Client", "INV-2025-004", "https://app.test/pay"));
+        incomplete.remove("cancelLink");
+
+        List<String> documents = renderer.renderForRecipients(AppConstants.TEMPLATE_INVOICE_WITH_ACTIONS, Map.of(),
+                List.of(recipient("Client", "INV-2025-005", "https://app.test/pay"), incomplete));
+
+        assertThat(documents.get(0)).contains("INV-2025-005");
+        assertThat(documents.get(1)).isNull();
+    }
+
+    static Map<String, Object> recipient(String clientName, String invoiceNumber, String paymentLink) {
+        return Map.of(
+                "clientName", clientName,
+                "invoiceNumber", invoiceNumber,
+                "totalAmount", "1.000.000",
+                "dueDate", "2025-10-31",
+                "invoiceViewLink", "https://app.test/invoices/view?token=v",
+                "paymentLink", paymentLink,
+                "cancelLink", "https://app.test/invoices/cancel-request?token=c");
+    }
+
+    static TemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        TemplateEngine engine = new TemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}
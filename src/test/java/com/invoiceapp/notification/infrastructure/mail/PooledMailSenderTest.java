@@ -0,0 +1,89 @@
+package com.invoiceapp.notification.infrastructure.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.invoiceapp.notification.domain.entity.EmailOutbox;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledMailSenderTest {
+
+    private static final int CONCURRENCY = 3;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private ThreadPoolTaskExecutor executor;
+    private PooledMailSender pooledMailSender;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        mailSender.setUsername("");
+        mailSender.setPassword("");
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(CONCURRENCY);
+        executor.setMaxPoolSize(CONCURRENCY);
+        executor.initialize();
+
+        pooledMailSender = new PooledMailSender(mailSender, executor, "noreply@invoiceapp.test", CONCURRENCY, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pooledMailSender.destroy();
+        executor.shutdown();
+    }
+
+    @Test
+    void sendAllDeliversEveryEmailWithoutCredentials() throws Exception {
+        List<EmailOutbox> emails = IntStream.range(0, 10)
+                .mapToObj(i -> email("client" + i + "@example.com", "Invoice " + i))
+                .toList();
+
+        Map<UUID, Exception> failures = pooledMailSender.sendAll(emails);
+
+        assertThat(failures).isEmpty();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(10);
+        assertThat(received)
+                .extracting(MimeMessage::getSubject)
+                .containsExactlyInAnyOrderElementsOf(emails.stream().map(EmailOutbox::getSubject).toList());
+    }
+
+    @Test
+    void sendAllReportsFailuresPerEmailAndKeepsSendingTheRest() {
+        EmailOutbox invalid = email("client@", "Broken");
+        EmailOutbox valid = email("client@example.com", "Valid");
+
+        Map<UUID, Exception> failures = pooledMailSender.sendAll(List.of(invalid, valid));
+
+        assertThat(failures).containsOnlyKeys(invalid.getId());
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    private static EmailOutbox email(String recipient, String subject) {
+        return EmailOutbox.builder()
+                .id(UUID.randomUUID())
+                .recipient(recipient)
+                .subject(subject)
+                .body("<p>" + subject + "</p>")
+                .html(true)
+                .build();
+    }
+}